@@ -0,0 +1,62 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.annotations.Max;
+import com.github.richardjwild.randomizer.annotations.Min;
+import com.github.richardjwild.randomizer.annotations.Pattern;
+import com.github.richardjwild.randomizer.types.IntegerRandomizer;
+import com.github.richardjwild.randomizer.types.LongRandomizer;
+import com.github.richardjwild.randomizer.types.StringRandomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares populating an object with a compiled object generator against populating it by hand with a generator for
+ * each field.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Thread)
+public class ObjectRandomizerBenchmark {
+
+    public static class Customer {
+        @Min("1")
+        private long id;
+        @Pattern("[A-Z]{1}[a-z]{2,9}")
+        private String name;
+        @Min("18") @Max("65")
+        private int age;
+    }
+
+    private Generator<Customer> customers;
+    private Generator<Long> ids;
+    private Generator<String> names;
+    private Generator<Integer> ages;
+
+    @Setup
+    public void setUp() {
+        customers = Randomizer.forType(Customer.class).compile();
+        ids = new LongRandomizer().min(1L).compile();
+        names = new StringRandomizer().pattern("[A-Z]{1}[a-z]{2,9}").compile();
+        ages = new IntegerRandomizer().min(18).max(65).compile();
+    }
+
+    @Benchmark
+    public Customer objectGenerator() {
+        return customers.next();
+    }
+
+    @Benchmark
+    public Customer byHand() {
+        Customer customer = new Customer();
+        customer.id = ids.next();
+        customer.name = names.next();
+        customer.age = ages.next();
+        return customer;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.types.CharacterRandomizer;
+import com.github.richardjwild.randomizer.types.DoubleRandomizer;
+import com.github.richardjwild.randomizer.types.IntegerRandomizer;
+import com.github.richardjwild.randomizer.types.LongRandomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Measures the cost of generating unboxed numbers and of filling arrays with them, which with the GC profiler should
+ * show no allocation at all. The fill benchmarks fill 1024 elements per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Thread)
+public class PrimitiveRandomizerBenchmark {
+
+    private IntegerRandomizer integerRandomizer;
+    private LongRandomizer longRandomizer;
+    private DoubleRandomizer doubleRandomizer;
+    private IntSupplier intSupplier;
+    private CharacterRandomizer characterRandomizer;
+    private final int[] ints = new int[1024];
+    private final char[] chars = new char[1024];
+
+    @Setup
+    public void setUp() {
+        integerRandomizer = new IntegerRandomizer().min(1_000).max(1_000_000);
+        longRandomizer = new LongRandomizer().min(1L).max(1_000_000_000_000L);
+        doubleRandomizer = new DoubleRandomizer().min(-1.0).max(1.0);
+        intSupplier = new IntegerRandomizer().min(1_000).max(1_000_000).intSupplier();
+        characterRandomizer = new CharacterRandomizer().min('a').max('z');
+    }
+
+    @Benchmark
+    public int intValue() {
+        return integerRandomizer.intValue();
+    }
+
+    @Benchmark
+    public long longValue() {
+        return longRandomizer.longValue();
+    }
+
+    @Benchmark
+    public double doubleValue() {
+        return doubleRandomizer.doubleValue();
+    }
+
+    @Benchmark
+    public int intSupplier() {
+        return intSupplier.getAsInt();
+    }
+
+    @Benchmark
+    public int[] fillInts() {
+        return integerRandomizer.fill(ints);
+    }
+
+    @Benchmark
+    public char[] fillChars() {
+        return characterRandomizer.fill(chars);
+    }
+}
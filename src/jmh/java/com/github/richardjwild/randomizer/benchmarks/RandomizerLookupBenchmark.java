@@ -0,0 +1,35 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of getting a randomizer with {@link Randomizer#forType}, as happens when randomizers are created
+ * in a loop.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Thread)
+public class RandomizerLookupBenchmark {
+
+    @Benchmark
+    public Randomizer<Integer> integer() {
+        return Randomizer.forType(Integer.class);
+    }
+
+    @Benchmark
+    public Randomizer<String> string() {
+        return Randomizer.forType(String.class);
+    }
+
+    @Benchmark
+    public Randomizer<BigDecimal> bigDecimal() {
+        return Randomizer.forType(BigDecimal.class);
+    }
+}
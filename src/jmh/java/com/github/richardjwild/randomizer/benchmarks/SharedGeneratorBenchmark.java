@@ -0,0 +1,40 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.Randomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating values from one compiled generator shared by every benchmark thread. Run it with
+ * different thread counts (e.g. <code>-t 1</code>, <code>-t 4</code>) to see how throughput scales with cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class SharedGeneratorBenchmark {
+
+    private Generator<String> stringGenerator;
+    private Generator<Integer> integerGenerator;
+
+    @Setup
+    public void setUp() {
+        stringGenerator = Randomizer.forType(String.class).pattern("[A-Z]{3}[0-9]{4}").compile();
+        integerGenerator = Randomizer.forType(Integer.class).min(1).max(1000).compile();
+    }
+
+    @Benchmark
+    public String string() {
+        return stringGenerator.next();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return integerGenerator.next();
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.types.pattern.StringPatternElement;
+import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of parsing a string pattern, without the pattern cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringPatternParserBenchmark {
+
+    private static final String SHORT_PATTERN = "[a-z]{5}";
+    private static final String LONG_PATTERN =
+            "[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}.com \\[[A-Z]{3}-[0-9]{6}\\] [\\[\\]\\-]{10} Hello world! [a-z\\-_.]{1,64}";
+
+    @Benchmark
+    public List<StringPatternElement> shortPattern() {
+        return new StringPatternParser(SHORT_PATTERN).parseAndCreatePatternElements();
+    }
+
+    @Benchmark
+    public List<StringPatternElement> longPattern() {
+        return new StringPatternParser(LONG_PATTERN).parseAndCreatePatternElements();
+    }
+}
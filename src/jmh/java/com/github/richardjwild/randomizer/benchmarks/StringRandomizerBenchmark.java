@@ -0,0 +1,77 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.types.StringRandomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating a string in each of the string randomizer's modes: fixed length, random length,
+ * constrained characters, patterns of different complexity and unique values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Thread)
+public class StringRandomizerBenchmark {
+
+    @Param({"10", "1000"})
+    public int length;
+
+    private Randomizer<String> fixedLength;
+    private Randomizer<String> randomLength;
+    private Randomizer<String> minAndMaxChar;
+    private Randomizer<String> literalPattern;
+    private Randomizer<String> identifierPattern;
+    private Randomizer<String> emailPattern;
+    private Randomizer<String> uniqueIdentifier;
+
+    @Setup
+    public void setUp() {
+        fixedLength = Randomizer.forType(String.class).length(length);
+        randomLength = Randomizer.forType(String.class).minLength(1).maxLength(length);
+        minAndMaxChar = Randomizer.forType(String.class).length(length).minChar('a').maxChar('z');
+        literalPattern = Randomizer.forType(String.class).pattern("Hello world!");
+        identifierPattern = Randomizer.forType(String.class).pattern("[A-Z]{3}-[0-9]{6}");
+        emailPattern = Randomizer.forType(String.class).pattern("[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}.com");
+        uniqueIdentifier = new StringRandomizer().pattern("[A-Z]{3}[0-9]{6}").unique();
+    }
+
+    @Benchmark
+    public String fixedLength() {
+        return fixedLength.value();
+    }
+
+    @Benchmark
+    public String randomLength() {
+        return randomLength.value();
+    }
+
+    @Benchmark
+    public String minAndMaxChar() {
+        return minAndMaxChar.value();
+    }
+
+    @Benchmark
+    public String literalPattern() {
+        return literalPattern.value();
+    }
+
+    @Benchmark
+    public String identifierPattern() {
+        return identifierPattern.value();
+    }
+
+    @Benchmark
+    public String emailPattern() {
+        return emailPattern.value();
+    }
+
+    @Benchmark
+    public String uniqueIdentifier() {
+        return uniqueIdentifier.value();
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.richardjwild.randomizer.benchmarks;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating a single unconstrained value with the randomizer for each supported type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Drandomizer.logging=none")
+@State(Scope.Thread)
+public class TypeRandomizerBenchmark {
+
+    private Randomizer<String> stringRandomizer;
+    private Randomizer<Date> dateRandomizer;
+    private Randomizer<Integer> integerRandomizer;
+    private Randomizer<Long> longRandomizer;
+    private Randomizer<Double> doubleRandomizer;
+    private Randomizer<Float> floatRandomizer;
+    private Randomizer<Character> characterRandomizer;
+    private Randomizer<Boolean> booleanRandomizer;
+    private Randomizer<BigDecimal> bigDecimalRandomizer;
+    private Randomizer<BigDecimal> amountRandomizer;
+
+    @Setup
+    public void setUp() {
+        stringRandomizer = Randomizer.forType(String.class).length(10);
+        dateRandomizer = Randomizer.forType(Date.class);
+        integerRandomizer = Randomizer.forType(Integer.class);
+        longRandomizer = Randomizer.forType(Long.class);
+        doubleRandomizer = Randomizer.forType(Double.class);
+        floatRandomizer = Randomizer.forType(Float.class);
+        characterRandomizer = Randomizer.forType(Character.class);
+        booleanRandomizer = Randomizer.forType(Boolean.class);
+        bigDecimalRandomizer = Randomizer.forType(BigDecimal.class).scale(2);
+        amountRandomizer = Randomizer.forType(BigDecimal.class).min(BigDecimal.ZERO).max(new BigDecimal(1_000_000))
+                .scale(2);
+    }
+
+    @Benchmark
+    public String string() {
+        return stringRandomizer.value();
+    }
+
+    @Benchmark
+    public Date date() {
+        return dateRandomizer.value();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return integerRandomizer.value();
+    }
+
+    @Benchmark
+    public Long longValue() {
+        return longRandomizer.value();
+    }
+
+    @Benchmark
+    public Double doubleValue() {
+        return doubleRandomizer.value();
+    }
+
+    @Benchmark
+    public Float floatValue() {
+        return floatRandomizer.value();
+    }
+
+    @Benchmark
+    public Character character() {
+        return characterRandomizer.value();
+    }
+
+    @Benchmark
+    public Boolean booleanValue() {
+        return booleanRandomizer.value();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimalRandomizer.value();
+    }
+
+    @Benchmark
+    public BigDecimal amount() {
+        return amountRandomizer.value();
+    }
+}
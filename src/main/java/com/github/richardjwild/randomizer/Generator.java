@@ -0,0 +1,138 @@
+package com.github.richardjwild.randomizer;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import com.github.richardjwild.randomizer.engine.RandomEngineFactory;
+import com.github.richardjwild.randomizer.engine.Seeds;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Generates random values within a fixed set of constraints. Generators are created by {@link Randomizer#compile()},
+ * which validates the constraints once and resolves them into the generator's own final fields, so generating a value
+ * involves no validation and no lookups.<p>
+ * Usage: <code>Generator&lt;String&gt; generator = Randomizer.forType(String.class).length(10).compile();</code><p>
+ * A generator is immutable and safe to share between any number of threads. Each thread draws its random numbers from
+ * its own engine, so threads never contend with each other. The thread that compiled the generator uses the engine of
+ * the randomizer it was compiled from, so it sees the same values as it would from that randomizer; every other thread
+ * is given an engine of the same kind, seeded from the randomizer's seed and the order in which the threads first used
+ * the generator. A generator compiled from a {@link Randomizer#shard sharded} randomizer instead draws the random
+ * numbers for each value from an engine seeded for the value's position in the sequence. Each thread reseeds one
+ * engine for every value, if the engine can be {@link RandomEngine#reseed reseeded}, rather than create a new one.<p>
+ * Values obtained directly from a generator are not logged.
+ * @param <T> The type of randomized value to be generated.
+ */
+public abstract class Generator<T> implements Supplier<T> {
+
+    private final Thread owner = Thread.currentThread();
+    private final RandomEngine ownerEngine;
+    private final ThreadLocal<RandomEngine> threadEngines;
+    private final ThreadLocal<RandomEngine> shardEngines = new ThreadLocal<>();
+    private final RandomEngineFactory engineFactory;
+    private final long seed;
+    private final long shardIndex, shardCount;
+    private final AtomicLong shardValues;
+    private final AtomicLong positions;
+
+    /**
+     * Creates a generator that draws its random numbers from engines like the one used by the given randomizer.
+     * @param randomizer The randomizer that the generator is being compiled from.
+     */
+    protected Generator(Randomizer<?> randomizer) {
+        RandomEngineFactory engineFactory = randomizer.engineFactory;
+        long seed = randomizer.seed;
+        AtomicLong threads = new AtomicLong();
+        this.ownerEngine = randomizer.random;
+        this.threadEngines = ThreadLocal.withInitial(
+                () -> engineFactory.create(Seeds.derive(seed, threads.incrementAndGet())));
+        this.engineFactory = engineFactory;
+        this.seed = seed;
+        this.shardIndex = randomizer.shardIndex;
+        this.shardCount = randomizer.shardCount;
+        this.shardValues = randomizer.shardValues;
+        this.positions = randomizer.positions;
+    }
+
+    /**
+     * Gets the next generated random value.
+     * @return The generated random value.
+     */
+    public final T next() {
+        return generate(engine());
+    }
+
+    /**
+     * Gets the next generated random value, drawing its random numbers from the given engine rather than from this
+     * generator's own. This is how generators are composed: a generator of objects, for example, generates the values
+     * of their fields from the engine it was given for the object, so that the whole object is determined by it.
+     * @param random The random engine to draw random numbers from.
+     * @return The generated random value.
+     */
+    public final T next(RandomEngine random) {
+        return generate(random);
+    }
+
+    /**
+     * Gets the random engine to generate the next value with. Subclasses use this to generate primitive values without
+     * going through {@link #generate}, and must call it once for every value they generate: when the generator is
+     * sharded, each call returns an engine seeded for the next value's position in the sequence, which is only good
+     * until the calling thread next calls this.
+     * @return The calling thread's random engine, or the next value's engine if the generator is sharded.
+     */
+    protected final RandomEngine engine() {
+        if (shardValues != null)
+            return shardEngine(Seeds.derive(seed, shardIndex + shardCount * shardValues.getAndIncrement()));
+        return Thread.currentThread() == owner ? ownerEngine : threadEngines.get();
+    }
+
+    /**
+     * Gets the position of the next value in the whole sequence, for generators whose values are determined by their
+     * position rather than drawn from an engine. Subclasses that use this call it once for every value. The positions
+     * are counted apart from the engines handed out by {@link #engine()}, and are shared by every generator compiled
+     * from the randomizer until its constraints, seed, engine or shard are next set. When the generator is sharded,
+     * they are the positions of the shard's values in the sequence of every shard, so that the shards of a sequence
+     * have different positions which together are those of a single shard.
+     * @return The position of the next value, from zero.
+     */
+    protected final long nextPosition() {
+        long position = positions.getAndIncrement();
+        return shardValues == null ? position : shardIndex + shardCount * position;
+    }
+
+    /**
+     * Gets the seed of the randomizer that this generator was compiled from. Random parameters that are fixed for the
+     * life of a generator should be derived from it, rather than drawn from an engine, so that compiling does not
+     * change the randomizer's sequence of values and every generator compiled with the same seed and constraints has
+     * the same parameters.
+     * @return The seed.
+     */
+    protected final long seed() {
+        return seed;
+    }
+
+    private RandomEngine shardEngine(long seed) {
+        RandomEngine engine = shardEngines.get();
+        if (engine == null || !engine.reseed(seed)) {
+            engine = engineFactory.create(seed);
+            shardEngines.set(engine);
+        }
+        return engine;
+    }
+
+    /**
+     * Gets the next generated random value. This is the same as {@link #next()}, so that a generator can be used
+     * wherever a <code>Supplier</code> is wanted.
+     * @return The generated random value.
+     */
+    @Override
+    public final T get() {
+        return next();
+    }
+
+    /**
+     * Generates a random value within this generator's constraints.
+     * @param random The random engine to draw random numbers from.
+     * @return The generated random value.
+     */
+    protected abstract T generate(RandomEngine random);
+}
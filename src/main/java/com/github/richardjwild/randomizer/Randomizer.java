@@ -1,11 +1,26 @@
 package com.github.richardjwild.randomizer;
 
+import com.github.richardjwild.randomizer.distribution.Distribution;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import com.github.richardjwild.randomizer.engine.RandomEngineFactory;
+import com.github.richardjwild.randomizer.engine.RandomEngines;
+import com.github.richardjwild.randomizer.engine.Seeds;
+import com.github.richardjwild.randomizer.logging.ValueLogger;
 import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
+import static com.github.richardjwild.randomizer.localization.Messages.COUNT_MUST_NOT_BE_NEGATIVE;
+import static com.github.richardjwild.randomizer.localization.Messages.FILL_RANGE_OUT_OF_BOUNDS;
+import static com.github.richardjwild.randomizer.localization.Messages.INVALID_SHARD;
 import static com.github.richardjwild.randomizer.localization.Messages.TYPE_CANNOT_BE_NULL;
 import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 import static java.util.Optional.ofNullable;
 
 /**
@@ -15,12 +30,20 @@ import static java.util.Optional.ofNullable;
  * value. These constraints are: <code>max</code>, <code>min</code>, <code>length</code>, <code>minLength</code>,
  * <code>maxLength</code>, <code>minChar</code>, <code>maxChar</code> and <code>scale</code>. Not all constraints are
  * applicable to all supported types: if a constraint method is called for a type it is not applicable to, an
- * <code>UnsupportedOperationException</code> will be thrown.
+ * <code>UnsupportedOperationException</code> will be thrown.<p>
+ * A randomizer is a builder and is not safe to use from more than one thread at a time. To generate values on many
+ * threads, {@link #compile()} it into a {@link Generator}, which is immutable and can be shared freely.
  * @param <T> The type of randomized value to be generated.
  */
 public abstract class Randomizer<T> {
 
-    private static RandomizerFactory randomizerFactory = new RandomizerFactory();
+    private static final String ENGINE_PROPERTY = "randomizer.engine";
+
+    private static final RandomizerFactory randomizerFactory = new RandomizerFactory();
+
+    private static volatile RandomEngineFactory defaultEngineFactory = ofNullable(System.getProperty(ENGINE_PROPERTY))
+            .<RandomEngineFactory>map(RandomEngines::named)
+            .orElse(RandomEngines.XOROSHIRO);
 
     /**
      * Gets a {@link Randomizer} for the specified type.
@@ -31,12 +54,127 @@ public abstract class Randomizer<T> {
      * @throws NoRandomizerFoundException No randomizer is implemented for the requested type.
      */
     public static <T> Randomizer<T> forType(Class<T> type) {
-        return ofNullable(type)
-                .map(randomizerFactory::create)
-                .orElseThrow(() -> new IllegalArgumentException(getMessage(TYPE_CANNOT_BE_NULL)));
+        if (type == null)
+            throw new IllegalArgumentException(getMessage(TYPE_CANNOT_BE_NULL));
+        return randomizerFactory.create(type);
+    }
+
+    /**
+     * Registers a randomizer for a type, so that {@link #forType} will return randomizers for it. A registered
+     * randomizer takes precedence over any built-in randomizer or {@link RandomizerProvider} for the same type.<p>
+     * Usage: <code>Randomizer.register(UUID.class, UuidRandomizer::new);</code>
+     * @param type The class of the type.
+     * @param randomizerForType Creates a new randomizer for the type, typically a constructor reference.
+     * @param <T> The type of the random value to be generated.
+     * @throws IllegalArgumentException The <code>type</code> parameter was passed a null reference.
+     */
+    public static <T> void register(Class<T> type, Supplier<? extends Randomizer<T>> randomizerForType) {
+        if (type == null)
+            throw new IllegalArgumentException(getMessage(TYPE_CANNOT_BE_NULL));
+        randomizerFactory.register(type, randomizerForType);
+    }
+
+    /**
+     * Sets the random engine used by randomizers created from now on, unless they are given an engine of their own.
+     * The default is {@link RandomEngines#XOROSHIRO}, or the built-in engine named by the <code>randomizer.engine</code>
+     * system property.
+     * @param engineFactory Creates the random engine for each new randomizer, e.g. {@link RandomEngines#SPLITTABLE}.
+     */
+    public static void setDefaultEngine(RandomEngineFactory engineFactory) {
+        defaultEngineFactory = engineFactory;
+    }
+
+    /**
+     * Sets the global seed. Randomizers created from now on take their seeds from a sequence determined by the global
+     * seed, so a program that creates its randomizers in the same order will generate the same values every time it
+     * runs. The global seed can also be set with the <code>randomizer.seed</code> system property.
+     * @param seed The global seed.
+     */
+    public static void setGlobalSeed(long seed) {
+        Seeds.setGlobalSeed(seed);
+    }
+
+    /**
+     * Clears the global seed, so that randomizers created from now on are given random seeds.
+     */
+    public static void clearGlobalSeed() {
+        Seeds.clearGlobalSeed();
     }
 
-    protected final Random random = new Random();
+    private final ValueLogger valueLogger = ValueLogger.forRandomizer(getClass());
+    RandomEngineFactory engineFactory = defaultEngineFactory;
+    long seed = Seeds.nextSeed();
+
+    protected RandomEngine random = engineFactory.create(seed);
+
+    int shardIndex, shardCount;
+    AtomicLong shardValues;
+    AtomicLong positions = new AtomicLong();
+
+    private Generator<T> compiled;
+    private boolean seedLogged;
+
+    /**
+     * Sets the random engine that this randomizer draws its random values from.
+     * @param engineFactory Creates the random engine, e.g. {@link RandomEngines#THREAD_LOCAL}.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public Randomizer<T> engine(RandomEngineFactory engineFactory) {
+        this.engineFactory = engineFactory;
+        this.random = engineFactory.create(seed);
+        restartShard();
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Seeds this randomizer, so that it generates the same sequence of values every time it is given the same seed and
+     * constraints, in this or any other run. This does not apply to the {@link RandomEngines#THREAD_LOCAL} engine,
+     * which cannot be seeded. The seed is logged before the next value is generated, as the seed that the randomizer
+     * was created with would have been.
+     * @param seed The seed.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public Randomizer<T> seed(long seed) {
+        this.seed = seed;
+        this.seedLogged = false;
+        this.random = engineFactory.create(seed);
+        restartShard();
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Makes this randomizer generate only one shard of its sequence of values, so that generating a large number of
+     * values can be split between several processes, e.g. worker <code>index</code> of <code>count</code>. Shard
+     * <code>index</code> generates the values at positions <code>index</code>, <code>index + count</code>,
+     * <code>index + 2 * count</code> and so on of the whole sequence.<p>
+     * A sharded randomizer draws the random numbers for each value from a stream of its own, which its engine is
+     * seeded for from the randomizer's seed and the value's position in the whole sequence. A shard can therefore go
+     * straight to its own values without generating anybody else's, and the values of a position do not depend on how
+     * the sequence is sharded. With the same seed and constraints, the values of all the shards of a sequence, taken in
+     * turn, are exactly the values of a single randomizer with <code>shard(0, 1)</code>. They are not the same as the
+     * values of an unsharded randomizer, whose values all come from one stream. Sharding has no effect on the
+     * {@link RandomEngines#THREAD_LOCAL} engine, which cannot be seeded.<p>
+     * Setting the shard, the seed or the engine restarts the sequence at the shard's first value.
+     * @param index The index of the shard to generate, from zero.
+     * @param count The number of shards that the sequence is split into.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws IllegalArgumentException The count was not positive, or the index was not between zero and the count.
+     */
+    public Randomizer<T> shard(int index, int count) {
+        check(() -> count <= 0 || index < 0 || index >= count, INVALID_SHARD);
+        this.shardIndex = index;
+        this.shardCount = count;
+        this.shardValues = new AtomicLong();
+        constraintsChanged();
+        return this;
+    }
+
+    private void restartShard() {
+        if (shardValues != null)
+            shardValues = new AtomicLong();
+    }
 
     /**
      * Gets the generated random value for the specified type, within any specified constraints.
@@ -44,6 +182,208 @@ public abstract class Randomizer<T> {
      */
     public abstract T value();
 
+    /**
+     * Gets a number of generated random values for the specified type, within any specified constraints. The
+     * constraints are validated once for the whole batch rather than once per value.
+     * @param count The number of values to generate.
+     * @return A list, sized to hold exactly <code>count</code> values, of the generated random values.
+     * @throws IllegalArgumentException The count was negative, or the specified combination of constraints was invalid.
+     */
+    public List<T> values(int count) {
+        check(() -> count < 0, COUNT_MUST_NOT_BE_NEGATIVE);
+        Generator<T> generator = compiled();
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            values.add(logged(generator.next()));
+        return values;
+    }
+
+    /**
+     * Gets a number of generated random values for the specified type, within any specified constraints, as an array.
+     * The constraints are validated once for the whole batch rather than once per value.<p>
+     * Usage: <code>String[] randomValues = Randomizer.forType(String.class).length(10).values(1000, String[]::new);</code>
+     * @param count The number of values to generate.
+     * @param arrayConstructor Creates an array of the required type and length, e.g. <code>Integer[]::new</code>.
+     * @return An array containing the generated random values.
+     * @throws IllegalArgumentException The count was negative, or the specified combination of constraints was invalid.
+     */
+    public T[] values(int count, IntFunction<T[]> arrayConstructor) {
+        check(() -> count < 0, COUNT_MUST_NOT_BE_NEGATIVE);
+        Generator<T> generator = compiled();
+        T[] values = arrayConstructor.apply(count);
+        for (int i = 0; i < count; i++)
+            values[i] = logged(generator.next());
+        return values;
+    }
+
+    /**
+     * Gets an iterator over an unending sequence of generated random values for the specified type, within any
+     * specified constraints. The constraints are validated once when the iterator is created, so constraints set after
+     * that do not affect the iterator.
+     * @return An iterator whose <code>hasNext</code> method always returns <code>true</code>.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     */
+    public Iterator<T> iterator() {
+        Generator<T> generator = compiled();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public T next() {
+                return logged(generator.next());
+            }
+        };
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random values within them. The generator is immutable, so
+     * setting constraints on this randomizer afterwards does not affect it. Subclasses should override this to resolve
+     * their constraints into the generator's fields, so that generating a value does as little as possible; the
+     * default generator simply calls {@link #value()}, and so is no safer to share between threads than this randomizer
+     * and cannot be sharded.
+     * @return A generator of random values within the specified constraints.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     */
+    public Generator<T> compile() {
+        return new Generator<T>(this) {
+            @Override
+            protected T generate(RandomEngine random) {
+                return value();
+            }
+        };
+    }
+
+    /**
+     * Gets the generator for the current constraints, compiling it only if it has not been compiled since the
+     * constraints last changed. Randomizers whose <code>value</code> method uses this must call
+     * {@link #constraintsChanged()} whenever a constraint is set.
+     * @return A generator of random values within the specified constraints.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     */
+    protected final Generator<T> compiled() {
+        Generator<T> generator = compiled;
+        if (generator == null) {
+            logSeed();
+            compiled = generator = compile();
+        }
+        return generator;
+    }
+
+    private void logSeed() {
+        if (!seedLogged) {
+            seedLogged = true;
+            valueLogger.logSeed(seed);
+        }
+    }
+
+    /**
+     * Discards the generator compiled for the previous constraints, so that the next value is generated within the
+     * new ones, and restarts the positions given to generators by {@link Generator#nextPosition()}. Subclasses that
+     * compile anything else from the constraints may override this to discard that too, but must call this method.
+     */
+    protected void constraintsChanged() {
+        compiled = null;
+        positions = new AtomicLong();
+    }
+
+    /**
+     * Checks that a range of array indices passed to a <code>fill</code> method lies within the array.
+     * @param length The length of the array.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @throws IllegalArgumentException The range was not within the array, or <code>from</code> was after
+     * <code>to</code>.
+     */
+    protected static void checkFillRange(int length, int from, int to) {
+        check(() -> from < 0 || from > to || to > length, FILL_RANGE_OUT_OF_BOUNDS);
+    }
+
+    /**
+     * Passes a generated random value to the log, subject to the logging policy in force for this randomizer class.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final T logged(T value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random int to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final int logged(int value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random long to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final long logged(long value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random double to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final double logged(double value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random float to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final float logged(float value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random char to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final char logged(char value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
+    /**
+     * Passes a generated random boolean to the log, subject to the logging policy in force for this randomizer class. The
+     * value is only boxed if it is actually logged.
+     * @param value The generated random value.
+     * @return The same value, so that calls can be chained.
+     */
+    protected final boolean logged(boolean value) {
+        logSeed();
+        valueLogger.logValue(value);
+        return value;
+    }
+
     /**
      * Sets the maximum boundary for the generated random value. The maximum is inclusive, i.e. the generated value may
      * be less than or equal to the maximum boundary.
@@ -66,6 +406,18 @@ public abstract class Randomizer<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Sets the distribution of the generated random value, in place of the uniform distribution that is used by
+     * default. This is only applicable to types Integer, Long, Double and Date. Any maximum and minimum boundaries
+     * still apply.
+     * @param distribution The distribution of the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws UnsupportedOperationException The randomizer for the requested type does not support distributions.
+     */
+    public Randomizer<T> distribution(Distribution distribution) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Sets the required length for the generated random value. This is only applicable to type String, for which it is
      * mandatory unless <code>maxLength</code> is specified instead. It is not allowed to specify both length and
@@ -154,4 +506,29 @@ public abstract class Randomizer<T> {
     public Randomizer<T> pattern(String pattern) {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * Sets the randomizer that generates the values of one field of the generated random object, in place of the one
+     * that would otherwise be chosen for the field's type. This is only applicable to objects that are populated field
+     * by field, such as POJOs and records, e.g.
+     * <code>Randomizer.forType(Person.class).field("age", new IntegerRandomizer().min(18).max(65))</code>
+     * @param name The name of the field.
+     * @param randomizer The randomizer for the field, which must generate values of the field's type.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws UnsupportedOperationException The randomizer for the requested type does not support fields.
+     */
+    public Randomizer<T> field(String name, Randomizer<?> randomizer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Leaves one field of the generated random object with its default value, such as <code>null</code> or zero. This
+     * is only applicable to objects that are populated field by field, such as POJOs and records.
+     * @param name The name of the field.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws UnsupportedOperationException The randomizer for the requested type does not support fields.
+     */
+    public Randomizer<T> ignore(String name) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -4,43 +4,100 @@ import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
 import com.github.richardjwild.randomizer.types.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-
-import static java.util.Optional.*;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 class RandomizerFactory {
 
-    private static final Map<Class<?>, Class<? extends Randomizer>> RANDOMIZER_CLASSES = new HashMap<>();
+    private static final Map<Class<?>, Supplier<? extends Randomizer<?>>> BUILT_IN_RANDOMIZERS = new HashMap<>();
 
     static {
-        add(String.class, StringRandomizer.class);
-        add(Date.class, DateRandomizer.class);
-        add(Integer.class, IntegerRandomizer.class);
-        add(Long.class, LongRandomizer.class);
-        add(Double.class, DoubleRandomizer.class);
-        add(Float.class, FloatRandomizer.class);
-        add(Character.class, CharacterRandomizer.class);
-        add(Boolean.class, BooleanRandomizer.class);
-        add(BigDecimal.class, BigDecimalRandomizer.class);
+        add(String.class, StringRandomizer::new);
+        add(Date.class, DateRandomizer::new);
+        add(Integer.class, IntegerRandomizer::new);
+        add(int.class, IntegerRandomizer::new);
+        add(Long.class, LongRandomizer::new);
+        add(long.class, LongRandomizer::new);
+        add(Double.class, DoubleRandomizer::new);
+        add(double.class, DoubleRandomizer::new);
+        add(Float.class, FloatRandomizer::new);
+        add(float.class, FloatRandomizer::new);
+        add(Character.class, CharacterRandomizer::new);
+        add(char.class, CharacterRandomizer::new);
+        add(Boolean.class, BooleanRandomizer::new);
+        add(boolean.class, BooleanRandomizer::new);
+        add(BigDecimal.class, BigDecimalRandomizer::new);
+        add(Instant.class, InstantRandomizer::new);
+        add(LocalDate.class, LocalDateRandomizer::new);
+        add(LocalDateTime.class, LocalDateTimeRandomizer::new);
+        add(OffsetDateTime.class, OffsetDateTimeRandomizer::new);
+        add(Duration.class, DurationRandomizer::new);
     }
 
-    private static void add(Class<?> type, Class<? extends Randomizer> randomizerClassForType) {
-        RANDOMIZER_CLASSES.put(type, randomizerClassForType);
+    private static void add(Class<?> type, Supplier<? extends Randomizer<?>> randomizerForType) {
+        BUILT_IN_RANDOMIZERS.put(type, randomizerForType);
     }
 
+    private static class ServiceLoaderRandomizers {
+
+        private static final Map<Class<?>, Supplier<? extends Randomizer<?>>> RANDOMIZERS = load();
+
+        private static Map<Class<?>, Supplier<? extends Randomizer<?>>> load() {
+            Map<Class<?>, Supplier<? extends Randomizer<?>>> randomizers = new HashMap<>();
+            for (RandomizerProvider<?> provider : ServiceLoader.load(RandomizerProvider.class))
+                randomizers.putIfAbsent(provider.type(), provider::create);
+            return randomizers;
+        }
+    }
+
+    private final Map<Class<?>, Supplier<? extends Randomizer<?>>> registeredRandomizers = new ConcurrentHashMap<>();
+
+    private final ClassValue<Supplier<? extends Randomizer<?>>> randomizers =
+            new ClassValue<Supplier<? extends Randomizer<?>>>() {
+                @Override
+                protected Supplier<? extends Randomizer<?>> computeValue(Class<?> type) {
+                    return find(type);
+                }
+            };
+
+    private Supplier<? extends Randomizer<?>> find(Class<?> type) {
+        Supplier<? extends Randomizer<?>> randomizer = registeredRandomizers.get(type);
+        if (randomizer == null)
+            randomizer = BUILT_IN_RANDOMIZERS.get(type);
+        if (randomizer == null)
+            randomizer = ServiceLoaderRandomizers.RANDOMIZERS.get(type);
+        if (randomizer == null && type.isEnum())
+            randomizer = enumRandomizer(type);
+        if (randomizer == null && ObjectRandomizer.canPopulate(type))
+            randomizer = () -> new ObjectRandomizer<>(type);
+        if (randomizer == null)
+            randomizer = () -> {
+                throw new NoRandomizerFoundException(type.getName());
+            };
+        return randomizer;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Supplier<? extends Randomizer<?>> enumRandomizer(Class<?> type) {
+        return () -> new EnumRandomizer(type);
+    }
+
+    @SuppressWarnings("unchecked")
     <T> Randomizer<T> create(Class<T> type) {
-        return ofNullable(RANDOMIZER_CLASSES.get(type))
-                .map(c -> (Randomizer<T>) instanceOf(c))
-                .orElseThrow(() -> new NoRandomizerFoundException(type.getName()));
+        return (Randomizer<T>) randomizers.get(type).get();
     }
 
-    private <T> T instanceOf(Class<T> t) {
-        try {
-            return t.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+    <T> void register(Class<T> type, Supplier<? extends Randomizer<T>> randomizerForType) {
+        registeredRandomizers.put(type, randomizerForType);
+        randomizers.remove(type);
     }
 }
@@ -0,0 +1,24 @@
+package com.github.richardjwild.randomizer;
+
+/**
+ * Provides randomizers for a type that is not supported out of the box. Providers are discovered with
+ * {@link java.util.ServiceLoader}: list the fully qualified name of each implementation in a file named
+ * <code>META-INF/services/com.github.richardjwild.randomizer.RandomizerProvider</code> on the classpath, and
+ * {@link Randomizer#forType} will then return randomizers for its type. Built-in types cannot be overridden this way;
+ * use {@link Randomizer#register} for that.
+ * @param <T> The type of randomized value generated by the provided randomizers.
+ */
+public interface RandomizerProvider<T> {
+
+    /**
+     * Gets the type that this provider provides randomizers for.
+     * @return The class of the type.
+     */
+    Class<T> type();
+
+    /**
+     * Creates a new randomizer for the type.
+     * @return The randomizer.
+     */
+    Randomizer<T> create();
+}
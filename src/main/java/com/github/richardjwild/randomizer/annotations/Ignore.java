@@ -0,0 +1,15 @@
+package com.github.richardjwild.randomizer.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leaves a field of an object populated by an {@link com.github.richardjwild.randomizer.types.ObjectRandomizer} with
+ * its default value, as {@link com.github.richardjwild.randomizer.Randomizer#ignore} would.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Ignore {
+}
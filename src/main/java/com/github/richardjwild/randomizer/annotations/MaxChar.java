@@ -0,0 +1,21 @@
+package com.github.richardjwild.randomizer.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the maximum character of the values generated for a field of an object populated by an
+ * {@link com.github.richardjwild.randomizer.types.ObjectRandomizer}, as
+ * {@link com.github.richardjwild.randomizer.Randomizer#maxChar} would.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface MaxChar {
+
+    /**
+     * @return The maximum character in the string.
+     */
+    char value();
+}
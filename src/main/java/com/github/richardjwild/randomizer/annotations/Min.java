@@ -0,0 +1,23 @@
+package com.github.richardjwild.randomizer.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the minimum of the values generated for a field of an object populated by an
+ * {@link com.github.richardjwild.randomizer.types.ObjectRandomizer}, as
+ * {@link com.github.richardjwild.randomizer.Randomizer#min} would.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Min {
+
+    /**
+     * @return The minimum value, converted to the type of the field. Dates and instants are ISO-8601 instants,
+     * e.g. <code>2020-01-01T00:00:00Z</code>; the other <code>java.time</code> types take the ISO-8601 format that their
+     * <code>parse</code> method reads, e.g. <code>2020-01-01</code> or <code>PT1H</code>.
+     */
+    String value();
+}
@@ -0,0 +1,131 @@
+package com.github.richardjwild.randomizer.dataset;
+
+import com.github.richardjwild.randomizer.types.DateRandomizer;
+import com.github.richardjwild.randomizer.types.DoubleRandomizer;
+import com.github.richardjwild.randomizer.types.IntegerRandomizer;
+import com.github.richardjwild.randomizer.types.LongRandomizer;
+import com.github.richardjwild.randomizer.types.StringRandomizer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.OptionalInt;
+
+/**
+ * Generates the values of one column into a mapped segment of its file. Values are generated into a reusable chunk
+ * array using the randomizer's fill methods and then copied into the segment in bulk, so no value is ever boxed.
+ */
+abstract class ColumnSource {
+
+    static final int CHUNK_SIZE = 4096;
+
+    final ColumnType type;
+    final int width;
+
+    private ColumnSource(ColumnType type, int width) {
+        this.type = type;
+        this.width = width;
+    }
+
+    /**
+     * Fills a segment, which must be in little-endian byte order, with values from its start.
+     * @param segment The segment to fill.
+     * @param rows The number of values to generate.
+     */
+    abstract void fill(ByteBuffer segment, int rows);
+
+    /**
+     * Determines whether the randomizer still generates values of the column's width. The constraints of a string
+     * randomizer can be changed after its column is added, which must not be allowed to misalign the rows.
+     * @return Whether the values fit the column.
+     */
+    boolean fitsWidth() {
+        return true;
+    }
+
+    static ColumnSource of(IntegerRandomizer randomizer) {
+        return new ColumnSource(ColumnType.INT, Integer.BYTES) {
+            private final int[] chunk = new int[CHUNK_SIZE];
+
+            @Override
+            void fill(ByteBuffer segment, int rows) {
+                IntBuffer out = segment.asIntBuffer();
+                for (int done = 0, count; done < rows; done += count) {
+                    count = Math.min(rows - done, CHUNK_SIZE);
+                    out.put(randomizer.fill(chunk, 0, count), 0, count);
+                }
+            }
+        };
+    }
+
+    static ColumnSource of(LongRandomizer randomizer) {
+        return new ColumnSource(ColumnType.LONG, Long.BYTES) {
+            private final long[] chunk = new long[CHUNK_SIZE];
+
+            @Override
+            void fill(ByteBuffer segment, int rows) {
+                LongBuffer out = segment.asLongBuffer();
+                for (int done = 0, count; done < rows; done += count) {
+                    count = Math.min(rows - done, CHUNK_SIZE);
+                    out.put(randomizer.fill(chunk, 0, count), 0, count);
+                }
+            }
+        };
+    }
+
+    static ColumnSource of(DoubleRandomizer randomizer) {
+        return new ColumnSource(ColumnType.DOUBLE, Double.BYTES) {
+            private final double[] chunk = new double[CHUNK_SIZE];
+
+            @Override
+            void fill(ByteBuffer segment, int rows) {
+                DoubleBuffer out = segment.asDoubleBuffer();
+                for (int done = 0, count; done < rows; done += count) {
+                    count = Math.min(rows - done, CHUNK_SIZE);
+                    out.put(randomizer.fill(chunk, 0, count), 0, count);
+                }
+            }
+        };
+    }
+
+    static ColumnSource of(DateRandomizer randomizer) {
+        return new ColumnSource(ColumnType.DATE, Long.BYTES) {
+            private final long[] chunk = new long[CHUNK_SIZE];
+
+            @Override
+            void fill(ByteBuffer segment, int rows) {
+                LongBuffer out = segment.asLongBuffer();
+                for (int done = 0, count; done < rows; done += count) {
+                    count = Math.min(rows - done, CHUNK_SIZE);
+                    out.put(randomizer.fill(chunk, 0, count), 0, count);
+                }
+            }
+        };
+    }
+
+    static ColumnSource of(StringRandomizer randomizer, int length) {
+        return new ColumnSource(ColumnType.STRING, length * Character.BYTES) {
+            private final int rowsPerChunk = Math.max(1, CHUNK_SIZE / Math.max(1, length));
+            private final char[] chunk = new char[rowsPerChunk * length];
+
+            @Override
+            boolean fitsWidth() {
+                OptionalInt fixedLength = randomizer.fixedLength();
+                return fixedLength.isPresent() && fixedLength.getAsInt() == length;
+            }
+
+            @Override
+            void fill(ByteBuffer segment, int rows) {
+                CharBuffer out = segment.asCharBuffer();
+                for (int done = 0, count; done < rows; done += count) {
+                    count = Math.min(rows - done, rowsPerChunk);
+                    for (int row = 0; row < count; row++)
+                        randomizer.writeTo(chunk, row * length);
+                    out.put(chunk, 0, count * length);
+                }
+            }
+        };
+    }
+}
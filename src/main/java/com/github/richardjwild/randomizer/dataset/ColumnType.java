@@ -0,0 +1,27 @@
+package com.github.richardjwild.randomizer.dataset;
+
+/**
+ * The types of value that can be stored in a column file. Each type is identified in the file header by its code.
+ * Strings are stored as UTF-16 code units, so the width of a string column is twice the length of its strings.
+ */
+public enum ColumnType {
+
+    INT(1),
+    LONG(2),
+    DOUBLE(3),
+    DATE(4),
+    STRING(5);
+
+    final int code;
+
+    ColumnType(int code) {
+        this.code = code;
+    }
+
+    static ColumnType forCode(int code) {
+        for (ColumnType type : values())
+            if (type.code == code)
+                return type;
+        return null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.richardjwild.randomizer.dataset;
+
+import com.github.richardjwild.randomizer.types.DateRandomizer;
+import com.github.richardjwild.randomizer.types.DoubleRandomizer;
+import com.github.richardjwild.randomizer.types.IntegerRandomizer;
+import com.github.richardjwild.randomizer.types.LongRandomizer;
+import com.github.richardjwild.randomizer.types.StringRandomizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.regex.Pattern;
+
+import static com.github.richardjwild.randomizer.localization.Messages.*;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Writes a dataset of random values to a directory, as one memory-mapped file per column, so that datasets far larger
+ * than the heap can be generated at close to disk bandwidth and read back without copying.<p>
+ * Usage:
+ * <pre>
+ * new DatasetWriter(directory)
+ *         .column("id", new LongRandomizer().min(1L))
+ *         .column("price", new DoubleRandomizer().min(0.0).max(1000.0))
+ *         .column("code", new StringRandomizer().pattern("[A-Z]{3}[0-9]{5}"))
+ *         .write(100_000_000);
+ * </pre>
+ * Each column is written to a file named after the column with the extension <code>.col</code>. The file starts with
+ * a 32 byte header: the magic number <code>RCOL</code>, the format version, the {@link ColumnType} code, the width of
+ * each value in bytes and the number of rows, followed by eight reserved bytes. The values follow the header in row
+ * order, each one exactly <code>width</code> bytes wide. Everything is little-endian, dates are stored as milliseconds
+ * since the epoch and strings as UTF-16 code units, so a string column needs a randomizer whose strings all have the
+ * same length. Use {@link MappedColumn} to read a column file back.<p>
+ * The values are generated with the randomizers' fill methods, so they are not logged.
+ */
+public class DatasetWriter {
+
+    static final int MAGIC = 0x4C4F4352; // "RCOL" when written little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final long SEGMENT_SIZE = 1L << 30;
+    static final String FILE_EXTENSION = ".col";
+
+    private static final Pattern COLUMN_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Map<String, ColumnSource> columns = new LinkedHashMap<>();
+
+    /**
+     * Creates a writer of datasets to a directory, which is created if it does not already exist when the dataset is
+     * written.
+     * @param directory The directory to write the column files to.
+     */
+    public DatasetWriter(Path directory) {
+        this(directory, SEGMENT_SIZE);
+    }
+
+    DatasetWriter(Path directory, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Adds a column of random ints.
+     * @param name The name of the column, made up of letters, digits, '_' and '-'.
+     * @param randomizer The randomizer that generates the column's values.
+     * @return A reference to this <code>DatasetWriter</code> so that method calls can be chained.
+     * @throws IllegalArgumentException The name was invalid or already used by another column.
+     */
+    public DatasetWriter column(String name, IntegerRandomizer randomizer) {
+        return column(name, ColumnSource.of(randomizer));
+    }
+
+    /**
+     * Adds a column of random longs.
+     * @param name The name of the column, made up of letters, digits, '_' and '-'.
+     * @param randomizer The randomizer that generates the column's values.
+     * @return A reference to this <code>DatasetWriter</code> so that method calls can be chained.
+     * @throws IllegalArgumentException The name was invalid or already used by another column.
+     */
+    public DatasetWriter column(String name, LongRandomizer randomizer) {
+        return column(name, ColumnSource.of(randomizer));
+    }
+
+    /**
+     * Adds a column of random doubles.
+     * @param name The name of the column, made up of letters, digits, '_' and '-'.
+     * @param randomizer The randomizer that generates the column's values.
+     * @return A reference to this <code>DatasetWriter</code> so that method calls can be chained.
+     * @throws IllegalArgumentException The name was invalid or already used by another column.
+     */
+    public DatasetWriter column(String name, DoubleRandomizer randomizer) {
+        return column(name, ColumnSource.of(randomizer));
+    }
+
+    /**
+     * Adds a column of random dates, which are stored as milliseconds since the epoch.
+     * @param name The name of the column, made up of letters, digits, '_' and '-'.
+     * @param randomizer The randomizer that generates the column's values.
+     * @return A reference to this <code>DatasetWriter</code> so that method calls can be chained.
+     * @throws IllegalArgumentException The name was invalid or already used by another column.
+     */
+    public DatasetWriter column(String name, DateRandomizer randomizer) {
+        return column(name, ColumnSource.of(randomizer));
+    }
+
+    /**
+     * Adds a column of random strings, which must all be the same length, e.g. with <code>length(10)</code> or a
+     * pattern such as <code>[A-Z]{3}[0-9]{5}</code>.
+     * @param name The name of the column, made up of letters, digits, '_' and '-'.
+     * @param randomizer The randomizer that generates the column's values.
+     * @return A reference to this <code>DatasetWriter</code> so that method calls can be chained.
+     * @throws IllegalArgumentException The name was invalid or already used by another column, the randomizer's
+     * constraints were invalid, or the strings it generates could vary in length or were too long.
+     */
+    public DatasetWriter column(String name, StringRandomizer randomizer) {
+        OptionalInt length = randomizer.fixedLength();
+        check(() -> !length.isPresent(), STRING_COLUMN_MUST_HAVE_FIXED_LENGTH, name);
+        check(() -> (long) length.getAsInt() * Character.BYTES > segmentSize, STRING_COLUMN_TOO_WIDE, name);
+        return column(name, ColumnSource.of(randomizer, length.getAsInt()));
+    }
+
+    private DatasetWriter column(String name, ColumnSource source) {
+        check(() -> !COLUMN_NAME.matcher(name).matches(), INVALID_COLUMN_NAME, name);
+        check(() -> columns.containsKey(name), DUPLICATE_COLUMN_NAME, name);
+        columns.put(name, source);
+        return this;
+    }
+
+    /**
+     * Writes the given number of rows to every column, replacing any column files that already exist. Each column file
+     * is mapped into memory a segment of up to a gigabyte at a time and the values are generated straight into it.
+     * The files are not forced to disk, that is left to the operating system.
+     * @param rows The number of rows to write.
+     * @throws IOException The directory could not be created or a column file could not be written.
+     * @throws IllegalArgumentException The number of rows was negative, or the constraints of a string column's
+     * randomizer have been changed so that its strings are no longer the length that the column was added with.
+     */
+    public void write(long rows) throws IOException {
+        check(() -> rows < 0, COUNT_MUST_NOT_BE_NEGATIVE);
+        for (Map.Entry<String, ColumnSource> column : columns.entrySet())
+            check(() -> !column.getValue().fitsWidth(), STRING_COLUMN_LENGTH_CHANGED, column.getKey());
+        Files.createDirectories(directory);
+        for (Map.Entry<String, ColumnSource> column : columns.entrySet())
+            write(directory.resolve(column.getKey() + FILE_EXTENSION), column.getValue(), rows);
+    }
+
+    private void write(Path file, ColumnSource column, long rows) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            writeHeader(channel, column, rows);
+            if (column.width == 0)
+                return;
+            long rowsPerSegment = segmentSize / column.width;
+            for (long first = 0; first < rows; first += rowsPerSegment) {
+                int count = (int) Math.min(rowsPerSegment, rows - first);
+                MappedByteBuffer segment = channel.map(
+                        FileChannel.MapMode.READ_WRITE, HEADER_SIZE + first * column.width, (long) count * column.width);
+                column.fill(segment.order(ByteOrder.LITTLE_ENDIAN), count);
+            }
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, ColumnSource column, long rows) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(column.type.code)
+                .putInt(column.width)
+                .putLong(rows)
+                .putLong(0L);
+        header.flip();
+        while (header.hasRemaining())
+            channel.write(header, header.position());
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.richardjwild.randomizer.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Date;
+
+import static com.github.richardjwild.randomizer.dataset.DatasetWriter.*;
+import static com.github.richardjwild.randomizer.localization.Messages.*;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A column file written by {@link DatasetWriter}, mapped read-only into memory so that its values can be read without
+ * copying the file onto the heap.<p>
+ * Usage: <code>long id = MappedColumn.open(directory.resolve("id.col")).longAt(row);</code><p>
+ * The file is mapped in segments of up to a gigabyte each, which can also be read directly as little-endian byte
+ * buffers with {@link #segment(int)}. Once opened, a column can be read from any number of threads. The mapping is
+ * released when the column is garbage collected.
+ */
+public class MappedColumn {
+
+    private final ColumnType type;
+    private final int width;
+    private final long rowCount;
+    private final long rowsPerSegment;
+    private final ByteBuffer[] segments;
+
+    private MappedColumn(ColumnType type, int width, long rowCount, long rowsPerSegment, ByteBuffer[] segments) {
+        this.type = type;
+        this.width = width;
+        this.rowCount = rowCount;
+        this.rowsPerSegment = rowsPerSegment;
+        this.segments = segments;
+    }
+
+    /**
+     * Opens a column file and maps it into memory.
+     * @param file The column file.
+     * @return The mapped column.
+     * @throws IOException The file could not be read.
+     * @throws IllegalArgumentException The file is not a column file, or is shorter than its header says.
+     */
+    public static MappedColumn open(Path file) throws IOException {
+        return open(file, SEGMENT_SIZE);
+    }
+
+    static MappedColumn open(Path file, long segmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            if (channel.size() < HEADER_SIZE)
+                throw notAColumnFile(file);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining())
+                channel.read(header, header.position());
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION)
+                throw notAColumnFile(file);
+            ColumnType type = ColumnType.forCode(header.getInt());
+            int width = header.getInt();
+            long rowCount = header.getLong();
+            if (type == null || width < 0 || rowCount < 0 || !fits(channel.size(), width, rowCount)
+                    || (long) width > segmentSize)
+                throw notAColumnFile(file);
+            long rowsPerSegment = width == 0 ? rowCount : segmentSize / width;
+            int segmentCount = width == 0 || rowCount == 0 ? 0 : (int) ((rowCount - 1) / rowsPerSegment + 1);
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = i * rowsPerSegment;
+                long rows = Math.min(rowsPerSegment, rowCount - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * width, rows * width)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedColumn(type, width, rowCount, rowsPerSegment, segments);
+        }
+    }
+
+    private static boolean fits(long fileSize, int width, long rowCount) {
+        return width == 0 || rowCount <= (fileSize - HEADER_SIZE) / width;
+    }
+
+    private static IllegalArgumentException notAColumnFile(Path file) {
+        return new IllegalArgumentException(getMessage(NOT_A_COLUMN_FILE, file.toString()));
+    }
+
+    /**
+     * Gets the type of the values in the column.
+     * @return The type.
+     */
+    public ColumnType type() {
+        return type;
+    }
+
+    /**
+     * Gets the width of each value in the column, in bytes.
+     * @return The width.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows in the column.
+     * @return The number of rows.
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of segments that the column is mapped in.
+     * @return The number of segments.
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Gets the number of rows in every segment but the last, which may have fewer.
+     * @return The number of rows per segment.
+     */
+    public long rowsPerSegment() {
+        return rowsPerSegment;
+    }
+
+    /**
+     * Gets a segment of the column as a read-only, little-endian buffer, which holds the values of its rows back to
+     * back without any header. The buffer has its own position and limit, so it can be read by one thread while other
+     * threads read other buffers over the same segment.
+     * @param index The index of the segment, from zero.
+     * @return The segment.
+     * @throws IndexOutOfBoundsException There is no segment with that index.
+     */
+    public ByteBuffer segment(int index) {
+        return segments[index].asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Gets the value of a row in a column of ints.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold ints.
+     */
+    public int intAt(long row) {
+        checkType(ColumnType.INT);
+        return segmentOf(row).getInt(offsetOf(row));
+    }
+
+    /**
+     * Gets the value of a row in a column of longs.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold longs.
+     */
+    public long longAt(long row) {
+        checkType(ColumnType.LONG);
+        return segmentOf(row).getLong(offsetOf(row));
+    }
+
+    /**
+     * Gets the value of a row in a column of doubles.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold doubles.
+     */
+    public double doubleAt(long row) {
+        checkType(ColumnType.DOUBLE);
+        return segmentOf(row).getDouble(offsetOf(row));
+    }
+
+    /**
+     * Gets the value of a row in a column of dates as milliseconds since the epoch, without creating a
+     * <code>Date</code>.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold dates.
+     */
+    public long millisAt(long row) {
+        checkType(ColumnType.DATE);
+        return segmentOf(row).getLong(offsetOf(row));
+    }
+
+    /**
+     * Gets the value of a row in a column of dates.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold dates.
+     */
+    public Date dateAt(long row) {
+        return new Date(millisAt(row));
+    }
+
+    /**
+     * Gets the value of a row in a column of strings.
+     * @param row The index of the row, from zero.
+     * @return The value.
+     * @throws IndexOutOfBoundsException There is no row with that index.
+     * @throws UnsupportedOperationException The column does not hold strings.
+     */
+    public String stringAt(long row) {
+        checkType(ColumnType.STRING);
+        checkRow(row);
+        if (width == 0)
+            return "";
+        ByteBuffer segment = segmentOf(row);
+        int offset = offsetOf(row);
+        char[] characters = new char[width / Character.BYTES];
+        for (int i = 0; i < characters.length; i++)
+            characters[i] = segment.getChar(offset + i * Character.BYTES);
+        return new String(characters);
+    }
+
+    private void checkType(ColumnType expected) {
+        if (type != expected)
+            throw new UnsupportedOperationException(getMessage(WRONG_COLUMN_TYPE, type.name(), expected.name()));
+    }
+
+    private void checkRow(long row) {
+        if (row < 0 || row >= rowCount)
+            throw new IndexOutOfBoundsException(
+                    getMessage(ROW_OUT_OF_RANGE, Long.toString(row), Long.toString(rowCount)));
+    }
+
+    private ByteBuffer segmentOf(long row) {
+        checkRow(row);
+        return segments[(int) (row / rowsPerSegment)];
+    }
+
+    private int offsetOf(long row) {
+        return (int) (row % rowsPerSegment) * width;
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import static com.github.richardjwild.randomizer.localization.Messages.INVALID_WEIGHTS;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * Draws indices in proportion to their weights in constant time, by the alias method as described by Vose. Every index
+ * has a column in the table, which holds the probability of keeping the index and the index to draw instead otherwise:
+ * a draw picks a column uniformly and then makes one comparison. Building the table takes time in proportion to the
+ * number of weights.
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a table from the weights of the indices.
+     * @param weights The weights, which must not be negative and must not all be zero.
+     * @throws IllegalArgumentException There were no weights, a weight was negative or not finite, or every weight was
+     * zero.
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            check(() -> !(weight >= 0) || Double.isInfinite(weight), INVALID_WEIGHTS);
+            total += weight;
+        }
+        double sum = total;
+        check(() -> !(sum > 0) || Double.isInfinite(sum), INVALID_WEIGHTS);
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n], large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount], more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0)
+                small[smallCount++] = more;
+            else
+                large[largeCount++] = more;
+        }
+        // Whatever is left over differs from one only by rounding error.
+        while (largeCount > 0)
+            probability[large[--largeCount]] = 1.0;
+        while (smallCount > 0)
+            probability[small[--smallCount]] = 1.0;
+    }
+
+    /**
+     * Gets the number of indices in the table.
+     * @return The number of weights that the table was built from.
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draws an index.
+     * @param random The source of random bits.
+     * @return An index from zero to one less than the size, drawn in proportion to its weight.
+     */
+    public int next(RandomEngine random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
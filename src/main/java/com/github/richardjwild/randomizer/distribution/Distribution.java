@@ -0,0 +1,175 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import static com.github.richardjwild.randomizer.localization.Messages.DISTRIBUTION_PARAMETER_MUST_BE_FINITE;
+import static com.github.richardjwild.randomizer.localization.Messages.DISTRIBUTION_PARAMETER_MUST_BE_POSITIVE;
+import static com.github.richardjwild.randomizer.localization.Messages.NO_VALUE_WITHIN_BOUNDS;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * The shape of the values generated by a numeric or date randomizer, in place of the uniform distribution that is used
+ * by default, e.g. <code>new IntegerRandomizer().min(1).max(1_000_000).distribution(Distribution.zipf(1.1))</code><p>
+ * Every distribution is sampled in constant time, using tables that are computed once. The bounds of the randomizer
+ * still apply: values outside them are drawn again, except from the Zipf distribution, which ranks the values between
+ * the bounds and never draws any other. Randomizers of whole numbers and dates round continuous values to the nearest
+ * whole number, and dates are distributed by their milliseconds since the epoch.
+ */
+public abstract class Distribution {
+
+    /**
+     * The number of values in a row that may fall outside the bounds before a sampler gives up.
+     */
+    static final int MAX_REJECTIONS = 1_000_000;
+
+    Distribution() {
+    }
+
+    /**
+     * The normal distribution, sampled with the ziggurat method.
+     * @param mean The mean.
+     * @param standardDeviation The standard deviation, which must be greater than zero.
+     * @return The distribution.
+     * @throws IllegalArgumentException The mean was not finite, or the standard deviation was not positive.
+     */
+    public static Distribution gaussian(double mean, double standardDeviation) {
+        checkFinite("mean", mean);
+        checkPositive("standard deviation", standardDeviation);
+        return new GaussianDistribution(mean, standardDeviation);
+    }
+
+    /**
+     * The exponential distribution, e.g. of the times between events that happen independently at a constant rate.
+     * @param mean The mean, which must be greater than zero.
+     * @return The distribution.
+     * @throws IllegalArgumentException The mean was not positive.
+     */
+    public static Distribution exponential(double mean) {
+        checkPositive("mean", mean);
+        return new ExponentialDistribution(mean);
+    }
+
+    /**
+     * The log-normal distribution, of values whose natural logarithms are normally distributed.
+     * @param mu The mean of the logarithm of the values.
+     * @param sigma The standard deviation of the logarithm of the values, which must be greater than zero.
+     * @return The distribution.
+     * @throws IllegalArgumentException Mu was not finite, or sigma was not positive.
+     */
+    public static Distribution logNormal(double mu, double sigma) {
+        checkFinite("mu", mu);
+        checkPositive("sigma", sigma);
+        return new LogNormalDistribution(mu, sigma);
+    }
+
+    /**
+     * The Poisson distribution, of the number of events that happen in an interval when they happen independently at
+     * a constant rate.
+     * @param mean The mean number of events, which must be greater than zero.
+     * @return The distribution.
+     * @throws IllegalArgumentException The mean was not positive.
+     */
+    public static Distribution poisson(double mean) {
+        checkPositive("mean", mean);
+        return new PoissonDistribution(mean);
+    }
+
+    /**
+     * The Zipf (power-law) distribution over the values between the bounds, in which the minimum is the most frequent
+     * value and the frequency of the value of rank <i>k</i> is proportional to 1 / <i>k</i><sup>exponent</sup>. It is
+     * sampled by rejection-inversion, which takes constant time and memory however many values there are.
+     * @param exponent The exponent, which must be greater than zero.
+     * @return The distribution.
+     * @throws IllegalArgumentException The exponent was not positive.
+     */
+    public static Distribution zipf(double exponent) {
+        checkPositive("exponent", exponent);
+        return new ZipfDistribution(exponent);
+    }
+
+    /**
+     * Creates a sampler of whole numbers from this distribution between two bounds.
+     * @param minimum The minimum, inclusive.
+     * @param maximum The maximum, inclusive, which must not be less than the minimum.
+     * @return The sampler.
+     */
+    public LongSampler longSampler(long minimum, long maximum) {
+        return random -> {
+            for (int i = 0; i < MAX_REJECTIONS; i++) {
+                long value = Math.round(sample(random));
+                if (value >= minimum && value <= maximum)
+                    return value;
+            }
+            throw noValueWithinBounds();
+        };
+    }
+
+    /**
+     * Creates a sampler of doubles from this distribution between two bounds.
+     * @param minimum The minimum, inclusive.
+     * @param maximum The maximum, inclusive, which must not be less than the minimum.
+     * @return The sampler.
+     */
+    public DoubleSampler doubleSampler(double minimum, double maximum) {
+        return random -> {
+            for (int i = 0; i < MAX_REJECTIONS; i++) {
+                double value = sample(random);
+                if (value >= minimum && value <= maximum)
+                    return value;
+            }
+            throw noValueWithinBounds();
+        };
+    }
+
+    /**
+     * Draws a value from the distribution, regardless of any bounds.
+     * @param random The source of random bits.
+     * @return The value.
+     */
+    abstract double sample(RandomEngine random);
+
+    IllegalStateException noValueWithinBounds() {
+        return new IllegalStateException(getMessage(NO_VALUE_WITHIN_BOUNDS, toString()));
+    }
+
+    private static void checkFinite(String parameter, double value) {
+        check(() -> Double.isNaN(value) || Double.isInfinite(value), DISTRIBUTION_PARAMETER_MUST_BE_FINITE,
+                parameter, String.valueOf(value));
+    }
+
+    private static void checkPositive(String parameter, double value) {
+        check(() -> !(value > 0) || Double.isInfinite(value), DISTRIBUTION_PARAMETER_MUST_BE_POSITIVE,
+                parameter, String.valueOf(value));
+    }
+
+    /**
+     * Draws whole numbers from a distribution between the bounds it was created with.
+     */
+    @FunctionalInterface
+    public interface LongSampler {
+
+        /**
+         * Draws a value.
+         * @param random The source of random bits.
+         * @return The value, between the bounds.
+         * @throws IllegalStateException Too many values in a row fell outside the bounds.
+         */
+        long nextLong(RandomEngine random);
+    }
+
+    /**
+     * Draws doubles from a distribution between the bounds it was created with.
+     */
+    @FunctionalInterface
+    public interface DoubleSampler {
+
+        /**
+         * Draws a value.
+         * @param random The source of random bits.
+         * @return The value, between the bounds.
+         * @throws IllegalStateException Too many values in a row fell outside the bounds.
+         */
+        double nextDouble(RandomEngine random);
+    }
+}
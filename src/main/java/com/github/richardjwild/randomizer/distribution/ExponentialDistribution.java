@@ -0,0 +1,23 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+final class ExponentialDistribution extends Distribution {
+
+    private final double mean;
+
+    ExponentialDistribution(double mean) {
+        this.mean = mean;
+    }
+
+    // Inverting the distribution function takes a single logarithm, and one minus the uniform value is never zero.
+    @Override
+    double sample(RandomEngine random) {
+        return -mean * Math.log(1.0 - random.nextDouble());
+    }
+
+    @Override
+    public String toString() {
+        return "exponential(" + mean + ")";
+    }
+}
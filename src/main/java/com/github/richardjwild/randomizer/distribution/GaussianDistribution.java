@@ -0,0 +1,23 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+final class GaussianDistribution extends Distribution {
+
+    private final double mean, standardDeviation;
+
+    GaussianDistribution(double mean, double standardDeviation) {
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    double sample(RandomEngine random) {
+        return mean + standardDeviation * Ziggurat.nextGaussian(random);
+    }
+
+    @Override
+    public String toString() {
+        return "gaussian(" + mean + ", " + standardDeviation + ")";
+    }
+}
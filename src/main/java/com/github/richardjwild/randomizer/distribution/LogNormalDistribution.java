@@ -0,0 +1,23 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+final class LogNormalDistribution extends Distribution {
+
+    private final double mu, sigma;
+
+    LogNormalDistribution(double mu, double sigma) {
+        this.mu = mu;
+        this.sigma = sigma;
+    }
+
+    @Override
+    double sample(RandomEngine random) {
+        return Math.exp(mu + sigma * Ziggurat.nextGaussian(random));
+    }
+
+    @Override
+    public String toString() {
+        return "logNormal(" + mu + ", " + sigma + ")";
+    }
+}
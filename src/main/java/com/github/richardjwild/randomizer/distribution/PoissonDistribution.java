@@ -0,0 +1,77 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+/**
+ * Draws from the Poisson distribution. Small means have so few likely values that they are drawn from an alias table
+ * of their probabilities. Larger means are drawn by the transformed rejection with squeeze of H&ouml;rmann ("The
+ * transformed rejection method for generating Poisson random variables", 1993), which accepts nearly nine draws in
+ * ten without computing a logarithm and needs no table at all.
+ */
+final class PoissonDistribution extends Distribution {
+
+    private static final double TABLE_MEAN_LIMIT = 10;
+    private static final double[] LOG_FACTORIALS = new double[16];
+
+    static {
+        for (int i = 1; i < LOG_FACTORIALS.length; i++)
+            LOG_FACTORIALS[i] = LOG_FACTORIALS[i - 1] + Math.log(i);
+    }
+
+    private final double mean;
+    private final AliasTable table;
+    private final double logMean, a, b, inverseAlpha, vr;
+
+    PoissonDistribution(double mean) {
+        this.mean = mean;
+        this.table = mean < TABLE_MEAN_LIMIT ? new AliasTable(probabilities(mean)) : null;
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * b;
+        this.inverseAlpha = 1.1239 + 1.1328 / (b - 3.4);
+        this.vr = 0.9277 - 3.6224 / (b - 2);
+    }
+
+    // The probabilities beyond the last one in the table add up to less than the rounding error of a double.
+    private static double[] probabilities(double mean) {
+        double[] probabilities = new double[(int) (mean + 12 * Math.sqrt(mean) + 24)];
+        probabilities[0] = Math.exp(-mean);
+        for (int k = 1; k < probabilities.length; k++)
+            probabilities[k] = probabilities[k - 1] * mean / k;
+        return probabilities;
+    }
+
+    @Override
+    double sample(RandomEngine random) {
+        return table != null ? table.next(random) : transformedRejection(random);
+    }
+
+    private long transformedRejection(RandomEngine random) {
+        while (true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr)
+                return k;
+            if (k < 0 || (us < 0.013 && v > us))
+                continue;
+            if (Math.log(v * inverseAlpha / (a / (us * us) + b)) <= -mean + k * logMean - logFactorial(k))
+                return k;
+        }
+    }
+
+    // Stirling's series is accurate to the precision of a double beyond the end of the table.
+    private static double logFactorial(long k) {
+        if (k < LOG_FACTORIALS.length)
+            return LOG_FACTORIALS[(int) k];
+        double x = k, inverse = 1.0 / x, inverseSquared = inverse * inverse;
+        return (x + 0.5) * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI)
+                + inverse * (1.0 / 12 - inverseSquared * (1.0 / 360 - inverseSquared / 1260));
+    }
+
+    @Override
+    public String toString() {
+        return "poisson(" + mean + ")";
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+/**
+ * Draws values from the standard normal distribution by the ziggurat method of Marsaglia and Tsang. The area under the
+ * density is covered by 128 layers of equal area, and a value is drawn from a random layer: almost always it falls
+ * within the part of the layer that lies wholly under the density and is returned at once, at the cost of one random
+ * long and one multiplication. The layers are computed once, when the class is loaded.
+ */
+final class Ziggurat {
+
+    private static final int LAYERS = 128;
+    private static final double R = 3.442619855899;
+    private static final double AREA = 9.91256303526217e-3;
+    private static final double SCALE = 0x1.0p31;
+
+    private static final long[] k = new long[LAYERS];
+    private static final double[] w = new double[LAYERS];
+    private static final double[] f = new double[LAYERS];
+
+    static {
+        double x = R, previous = R;
+        double q = AREA / Math.exp(-0.5 * x * x);
+        k[0] = (long) (x / q * SCALE);
+        k[1] = 0;
+        w[0] = q / SCALE;
+        w[LAYERS - 1] = x / SCALE;
+        f[0] = 1.0;
+        f[LAYERS - 1] = Math.exp(-0.5 * x * x);
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            x = Math.sqrt(-2.0 * Math.log(AREA / x + Math.exp(-0.5 * x * x)));
+            k[i + 1] = (long) (x / previous * SCALE);
+            previous = x;
+            f[i] = Math.exp(-0.5 * x * x);
+            w[i] = x / SCALE;
+        }
+    }
+
+    private Ziggurat() {
+    }
+
+    // The layer is chosen by the low bits and the position within it by the high bits, so that they are independent.
+    static double nextGaussian(RandomEngine random) {
+        while (true) {
+            long bits = random.nextLong();
+            int layer = (int) bits & (LAYERS - 1);
+            long position = bits >> 32;
+            double x = position * w[layer];
+            if (Math.abs(position) < k[layer])
+                return x;
+            if (layer == 0)
+                return tail(random, position > 0);
+            if (f[layer] + random.nextDouble() * (f[layer - 1] - f[layer]) < Math.exp(-0.5 * x * x))
+                return x;
+        }
+    }
+
+    private static double tail(RandomEngine random, boolean positive) {
+        double x, y;
+        do {
+            x = -Math.log(1.0 - random.nextDouble()) / R;
+            y = -Math.log(1.0 - random.nextDouble());
+        } while (y + y < x * x);
+        return positive ? R + x : -R - x;
+    }
+}
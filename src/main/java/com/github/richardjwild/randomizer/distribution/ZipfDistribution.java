@@ -0,0 +1,98 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+/**
+ * Draws ranks from the Zipf distribution by the rejection-inversion method of H&ouml;rmann and Derflinger ("Rejection-
+ * inversion to generate variates from monotone discrete distributions", 1996). A continuous density that bounds the
+ * probabilities of the ranks from above is sampled by inverting its integral, and the rank nearest to the sample is
+ * accepted unless the sample falls in the gap between the density and the rank's probability, which is rarely the
+ * case. Only a few numbers depending on the exponent and the number of ranks are computed in advance.
+ */
+final class ZipfDistribution extends Distribution {
+
+    private final double exponent;
+    private final Ranks unbounded;
+
+    ZipfDistribution(double exponent) {
+        this.exponent = exponent;
+        this.unbounded = new Ranks(exponent, Long.MAX_VALUE);
+    }
+
+    // A range of more than Long.MAX_VALUE values overflows; the ranks beyond that are too rare to be drawn anyway.
+    @Override
+    public LongSampler longSampler(long minimum, long maximum) {
+        long count = maximum - minimum + 1;
+        Ranks ranks = new Ranks(exponent, count > 0 ? count : Long.MAX_VALUE);
+        return random -> minimum + ranks.next(random) - 1;
+    }
+
+    @Override
+    public DoubleSampler doubleSampler(double minimum, double maximum) {
+        double count = Math.floor(maximum - minimum) + 1;
+        Ranks ranks = new Ranks(exponent, count < Long.MAX_VALUE ? (long) count : Long.MAX_VALUE);
+        return random -> minimum + (ranks.next(random) - 1);
+    }
+
+    @Override
+    double sample(RandomEngine random) {
+        return unbounded.next(random);
+    }
+
+    @Override
+    public String toString() {
+        return "zipf(" + exponent + ")";
+    }
+
+    private static final class Ranks {
+
+        private final double exponent;
+        private final long count;
+        private final double hIntegralX1, hIntegralCount, s;
+
+        private Ranks(double exponent, long count) {
+            this.exponent = exponent;
+            this.count = count;
+            this.hIntegralX1 = hIntegral(1.5) - 1.0;
+            this.hIntegralCount = hIntegral(count + 0.5);
+            this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        private long next(RandomEngine random) {
+            while (true) {
+                double u = hIntegralCount + random.nextDouble() * (hIntegralX1 - hIntegralCount);
+                double x = hIntegralInverse(u);
+                long k = (long) (x + 0.5);
+                if (k < 1)
+                    k = 1;
+                else if (k > count)
+                    k = count;
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k))
+                    return k;
+            }
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return expm1OverX((1.0 - exponent) * logX) * logX;
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = Math.max(x * (1.0 - exponent), -1.0);
+            return Math.exp(log1pOverX(t) * x);
+        }
+
+        // The quotients tend to one as x tends to zero, where they are computed by their Taylor series instead.
+        private static double expm1OverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x / 3.0 * (1.0 + 0.25 * x));
+        }
+
+        private static double log1pOverX(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.richardjwild.randomizer.engine;
+
+import java.util.Random;
+
+class JavaUtilRandomEngine implements RandomEngine {
+
+    private final Random random;
+
+    JavaUtilRandomEngine(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public float nextFloat() {
+        return random.nextFloat();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public boolean reseed(long seed) {
+        random.setSeed(seed);
+        return true;
+    }
+}
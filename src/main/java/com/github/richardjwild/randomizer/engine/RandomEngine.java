@@ -0,0 +1,100 @@
+package com.github.richardjwild.randomizer.engine;
+
+import static com.github.richardjwild.randomizer.localization.Messages.BOUND_MUST_BE_GREATER_THAN_ZERO;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+
+/**
+ * A source of random bits for randomizers. Implementations need only provide {@link #nextLong()}; the other methods
+ * derive their values from it without bias, but may be overridden where the underlying generator can do better.<p>
+ * Engines are not required to be thread-safe.
+ */
+public interface RandomEngine {
+
+    /**
+     * Gets the next 64 random bits.
+     * @return A uniformly distributed long value.
+     */
+    long nextLong();
+
+    /**
+     * Gets the next 32 random bits.
+     * @return A uniformly distributed int value.
+     */
+    default int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Gets a uniformly distributed int value between zero (inclusive) and the bound (exclusive).
+     * @param bound The upper bound, which must be greater than zero.
+     * @return The random value.
+     * @throws IllegalArgumentException The bound was zero or negative.
+     */
+    default int nextInt(int bound) {
+        if (bound <= 0)
+            throw new IllegalArgumentException(getMessage(BOUND_MUST_BE_GREATER_THAN_ZERO));
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Gets a uniformly distributed long value between zero (inclusive) and the bound (exclusive).
+     * @param bound The upper bound, which must be greater than zero.
+     * @return The random value.
+     * @throws IllegalArgumentException The bound was zero or negative.
+     */
+    default long nextLong(long bound) {
+        if (bound <= 0)
+            throw new IllegalArgumentException(getMessage(BOUND_MUST_BE_GREATER_THAN_ZERO));
+        long mask = bound - 1;
+        long r = nextLong();
+        if ((bound & mask) == 0L)
+            return r & mask;
+        for (long u = r >>> 1; u + mask - (r = u % bound) < 0L; u = nextLong() >>> 1)
+            ;
+        return r;
+    }
+
+    /**
+     * Gets a uniformly distributed double value between zero (inclusive) and one (exclusive).
+     * @return The random value.
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Gets a uniformly distributed float value between zero (inclusive) and one (exclusive).
+     * @return The random value.
+     */
+    default float nextFloat() {
+        return (nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * Gets a random boolean value.
+     * @return The random value.
+     */
+    default boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Restarts this engine with a new seed, so that it produces the same sequence of values as an engine newly created
+     * with that seed by the same factory. Sharded generators use this to reuse one engine for every value rather than
+     * create an engine for each. Engines that cannot be reseeded need not override this.
+     * @param seed The new seed.
+     * @return <code>true</code> if the engine was reseeded, or <code>false</code> if it cannot be.
+     */
+    default boolean reseed(long seed) {
+        return false;
+    }
+}
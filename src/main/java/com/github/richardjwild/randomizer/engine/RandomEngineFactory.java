@@ -0,0 +1,20 @@
+package com.github.richardjwild.randomizer.engine;
+
+/**
+ * Creates {@link RandomEngine}s. This is the extension point for plugging a different random number generator into
+ * the randomizers: implement it (a lambda will do) and pass it to
+ * {@link com.github.richardjwild.randomizer.Randomizer#engine} or
+ * {@link com.github.richardjwild.randomizer.Randomizer#setDefaultEngine}. The built-in engines are listed in
+ * {@link RandomEngines}.
+ */
+@FunctionalInterface
+public interface RandomEngineFactory {
+
+    /**
+     * Creates an engine. Engines that can be seeded must produce the same sequence of values every time they are
+     * created with the same seed.
+     * @param seed The seed for the engine.
+     * @return The engine.
+     */
+    RandomEngine create(long seed);
+}
@@ -0,0 +1,64 @@
+package com.github.richardjwild.randomizer.engine;
+
+import static com.github.richardjwild.randomizer.localization.Messages.NO_RANDOM_ENGINE_FOUND;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+
+/**
+ * The built-in random engines.
+ */
+public enum RandomEngines implements RandomEngineFactory {
+
+    /**
+     * The xoroshiro128++ generator: small, fast and of high statistical quality. This is the default engine.
+     */
+    XOROSHIRO {
+        @Override
+        public RandomEngine create(long seed) {
+            return new XoroshiroRandomEngine(seed);
+        }
+    },
+
+    /**
+     * Uses {@link java.util.SplittableRandom}.
+     */
+    SPLITTABLE {
+        @Override
+        public RandomEngine create(long seed) {
+            return new SplittableRandomEngine(seed);
+        }
+    },
+
+    /**
+     * Uses {@link java.util.concurrent.ThreadLocalRandom}, so a randomizer using it may be shared between threads
+     * without contention. The seed is ignored, so values from this engine cannot be reproduced.
+     */
+    THREAD_LOCAL {
+        @Override
+        public RandomEngine create(long seed) {
+            return ThreadLocalRandomEngine.INSTANCE;
+        }
+    },
+
+    /**
+     * Uses {@link java.util.Random}, which is thread-safe but contends badly when shared between threads.
+     */
+    JAVA_UTIL_RANDOM {
+        @Override
+        public RandomEngine create(long seed) {
+            return new JavaUtilRandomEngine(seed);
+        }
+    };
+
+    /**
+     * Gets a built-in engine by name, ignoring case, e.g. <code>splittable</code>.
+     * @param name The name of the engine.
+     * @return The engine.
+     * @throws IllegalArgumentException There is no built-in engine with that name.
+     */
+    public static RandomEngines named(String name) {
+        for (RandomEngines engine : values())
+            if (engine.name().equalsIgnoreCase(name.trim()))
+                return engine;
+        throw new IllegalArgumentException(getMessage(NO_RANDOM_ENGINE_FOUND, name));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.richardjwild.randomizer.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.richardjwild.randomizer.localization.Messages.INVALID_SEED;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Hands out the seeds that new randomizers are created with. Normally every seed is itself random. When a global seed
+ * has been set, either with {@link #setGlobalSeed} or with the <code>randomizer.seed</code> system property, the seeds
+ * are instead drawn from a sequence determined by the global seed, so a program that creates its randomizers in the
+ * same order generates the same values on every run.
+ */
+public class Seeds {
+
+    private static final String SEED_PROPERTY = "randomizer.seed";
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static volatile SplittableRandom seedSequence = ofNullable(System.getProperty(SEED_PROPERTY))
+            .map(Seeds::parseSeed)
+            .map(SplittableRandom::new)
+            .orElse(null);
+
+    private static long parseSeed(String seed) {
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(getMessage(INVALID_SEED, seed));
+        }
+    }
+
+    /**
+     * Sets the global seed, restarting the sequence of seeds given to new randomizers.
+     * @param seed The global seed.
+     */
+    public static void setGlobalSeed(long seed) {
+        seedSequence = new SplittableRandom(seed);
+    }
+
+    /**
+     * Clears the global seed, so that new randomizers are given random seeds.
+     */
+    public static void clearGlobalSeed() {
+        seedSequence = null;
+    }
+
+    /**
+     * Gets the seed for a new randomizer.
+     * @return The seed.
+     */
+    public static long nextSeed() {
+        SplittableRandom sequence = seedSequence;
+        if (sequence == null)
+            return ThreadLocalRandom.current().nextLong();
+        synchronized (sequence) {
+            return sequence.nextLong();
+        }
+    }
+
+    /**
+     * Derives the seed for one of a number of independent streams of random numbers from a base seed, e.g. one stream
+     * for each thread. The same base seed and stream number always give the same derived seed.
+     * @param seed The base seed.
+     * @param stream The stream number.
+     * @return The seed for the stream.
+     */
+    public static long derive(long seed, long stream) {
+        return XoroshiroRandomEngine.splitMix64(XoroshiroRandomEngine.splitMix64(seed) + stream * GOLDEN_GAMMA);
+    }
+
+    private Seeds() {
+    }
+}
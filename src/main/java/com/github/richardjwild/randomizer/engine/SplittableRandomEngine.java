@@ -0,0 +1,43 @@
+package com.github.richardjwild.randomizer.engine;
+
+import java.util.SplittableRandom;
+
+class SplittableRandomEngine implements RandomEngine {
+
+    private SplittableRandom random;
+
+    SplittableRandomEngine(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return random.nextLong(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean reseed(long seed) {
+        this.random = new SplittableRandom(seed);
+        return true;
+    }
+}
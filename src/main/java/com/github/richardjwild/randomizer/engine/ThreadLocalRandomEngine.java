@@ -0,0 +1,46 @@
+package com.github.richardjwild.randomizer.engine;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+class ThreadLocalRandomEngine implements RandomEngine {
+
+    static final ThreadLocalRandomEngine INSTANCE = new ThreadLocalRandomEngine();
+
+    private ThreadLocalRandomEngine() {
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override
+    public boolean reseed(long seed) {
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.richardjwild.randomizer.engine;
+
+/**
+ * The xoroshiro128++ generator by David Blackman and Sebastiano Vigna. The 128 bits of state are initialised from the
+ * seed with SplitMix64, so that similar seeds give unrelated sequences.
+ */
+class XoroshiroRandomEngine implements RandomEngine {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long s0, s1;
+
+    XoroshiroRandomEngine(long seed) {
+        reseed(seed);
+    }
+
+    static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        this.s1 = Long.rotateLeft(s1, 28);
+        return result;
+    }
+
+    @Override
+    public boolean reseed(long seed) {
+        s0 = splitMix64(seed + GOLDEN_GAMMA);
+        s1 = splitMix64(seed + 2 * GOLDEN_GAMMA);
+        return true;
+    }
+}
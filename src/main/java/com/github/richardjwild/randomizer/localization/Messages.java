@@ -2,6 +2,8 @@ package com.github.richardjwild.randomizer.localization;
 
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class Messages {
 
@@ -16,6 +18,27 @@ public class Messages {
     public static final String MISSING_VALUE_IN_LENGTH_DEFINITION = "pattern.parser.lengthrange.missingvalue";
     public static final String TOO_MANY_FIELDS_IN_LENGTH_DEFINITION = "pattern.parser.lengthrange.toomanyfields";
     public static final String INVALID_NUMBER_IN_LENGTH_DEFINITION = "pattern.parser.lengthrange.notanumber";
+    public static final String MIN_GREATER_THAN_MAX_IN_LENGTH_DEFINITION = "pattern.parser.lengthrange.mingreaterthanmax";
+    public static final String UNEXPECTED_PATTERN_END_WANTED_CLOSEPARENTHESIS = "pattern.parser.endedunexpectedly.wantedcloseparenthesis";
+    public static final String UNEXPECTED_CLOSEPARENTHESIS = "pattern.parser.unexpectedcharacter.closeparenthesis";
+    public static final String NOTHING_TO_REPEAT = "pattern.parser.nothingtorepeat";
+    public static final String EMPTY_CHARACTER_CLASS = "pattern.parser.emptycharacterclass";
+    public static final String INDEX_OUT_OF_RANGE = "pattern.index.outofrange";
+    public static final String TOO_MANY_STRINGS_TO_COUNT = "pattern.index.toomanystrings";
+    public static final String UNIQUE_VALUES_EXHAUSTED = "randomizer.string.unique.exhausted";
+    public static final String DISTRIBUTION_PARAMETER_MUST_BE_FINITE = "randomizer.distribution.parameternotfinite";
+    public static final String DISTRIBUTION_PARAMETER_MUST_BE_POSITIVE = "randomizer.distribution.parameternotpositive";
+    public static final String NO_VALUE_WITHIN_BOUNDS = "randomizer.distribution.novaluewithinbounds";
+    public static final String INVALID_WEIGHTS = "randomizer.distribution.invalidweights";
+    public static final String INVALID_CHARACTER_WEIGHT = "pattern.characterweight.invalid";
+    public static final String INVALID_NUMBER_IN_CHARACTER_WEIGHT = "pattern.parser.characterweight.notanumber";
+    public static final String WEIGHT_IN_NEGATED_CHARACTER_CLASS = "pattern.parser.characterweight.negatedclass";
+    public static final String CHARACTERS_AND_MINCHAR_OR_MAXCHAR = "randomizer.string.validation.charactersandminmaxchar";
+    public static final String NO_VALUE_AT_SCALE = "randomizer.bigdecimal.novalueatscale";
+    public static final String UNSCALED_VALUES_DO_NOT_FIT_IN_LONG = "randomizer.bigdecimal.unscaledtoolarge";
+    public static final String UNSUPPORTED_GRANULARITY = "randomizer.temporal.unsupportedgranularity";
+    public static final String NO_VALUE_AT_GRANULARITY = "randomizer.temporal.novalueatgranularity";
+    public static final String BOUND_OUT_OF_RANGE_FOR_GRANULARITY = "randomizer.temporal.boundoutofrange";
     public static final String NO_RANDOMIZER_FOUND_FOR_TYPE = "randomizer.type.notsupported";
     public static final String LENGTH_MAXLENGTH_OR_PATTERN_MUST_BE_SPECIFIED = "randomizer.string.validation.lengthmaxlengthorpattern";
     public static final String LENGTH_AND_MAXLENGTH_CANNOT_BE_SPECIFIED_SIMULTANEOUSLY = "randomizer.string.validation.lengthandmaxlength";
@@ -26,9 +49,34 @@ public class Messages {
     public static final String MINLENGTH_MUST_BE_LESS_THAN_MAXLENGTH = "randomizer.string.validation.minlengthlessthanmaxlength";
     public static final String MINCHAR_MUST_BE_LESS_THAN_MAXCHAR = "randomizer.string.validation.mincharlessthanmaxchar";
     public static final String PATTERN_AND_ANY_OTHER_CONSTRAINT = "randomizer.string.validation.patternandanyotherconstraint";
+    public static final String PATTERN_CACHE_CAPACITY_MUST_BE_GREATER_THAN_ZERO = "pattern.cache.capacitygreaterzero";
+    public static final String COUNT_MUST_NOT_BE_NEGATIVE = "randomizer.values.countnotnegative";
+    public static final String INVALID_LOGGING_POLICY = "randomizer.logging.invalidpolicy";
+    public static final String LOGGING_POLICY_COUNT_MUST_BE_GREATER_THAN_ZERO = "randomizer.logging.countgreaterzero";
+    public static final String BOUND_MUST_BE_GREATER_THAN_ZERO = "randomizer.engine.boundgreaterzero";
+    public static final String NO_RANDOM_ENGINE_FOUND = "randomizer.engine.notfound";
+    public static final String INVALID_SEED = "randomizer.seed.invalid";
+    public static final String MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX = "randomizer.validation.minlessthanmax";
+    public static final String FILL_RANGE_OUT_OF_BOUNDS = "randomizer.fill.rangeoutofbounds";
+    public static final String PATTERN_CANNOT_FILL_CHARACTERS = "randomizer.string.validation.patternfill";
+    public static final String INVALID_SHARD = "randomizer.shard.invalid";
+    public static final String NO_SUCH_FIELD = "randomizer.object.nosuchfield";
+    public static final String INVALID_FIELD_CONSTRAINT = "randomizer.object.invalidconstraint";
+    public static final String OBJECT_CREATION_FAILED = "randomizer.object.creationfailed";
+    public static final String INVALID_COLUMN_NAME = "dataset.column.invalidname";
+    public static final String DUPLICATE_COLUMN_NAME = "dataset.column.duplicatename";
+    public static final String STRING_COLUMN_MUST_HAVE_FIXED_LENGTH = "dataset.column.stringfixedlength";
+    public static final String STRING_COLUMN_TOO_WIDE = "dataset.column.stringtoowide";
+    public static final String STRING_COLUMN_LENGTH_CHANGED = "dataset.column.stringlengthchanged";
+    public static final String NOT_A_COLUMN_FILE = "dataset.column.notacolumnfile";
+    public static final String WRONG_COLUMN_TYPE = "dataset.column.wrongtype";
+    public static final String ROW_OUT_OF_RANGE = "dataset.column.rowoutofrange";
+
+    private static final ConcurrentMap<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
 
     public static String getMessage(String messageKey, String... argumentValues) {
-        ResourceBundle messages = ResourceBundle.getBundle("messages", Locale.getDefault());
+        ResourceBundle messages = bundles.computeIfAbsent(Locale.getDefault(),
+                locale -> ResourceBundle.getBundle("messages", locale));
         String s = messages.getString(messageKey);
         return insertArguments(s, argumentValues);
     }
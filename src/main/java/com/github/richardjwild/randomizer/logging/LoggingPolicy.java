@@ -0,0 +1,107 @@
+package com.github.richardjwild.randomizer.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.richardjwild.randomizer.localization.Messages.INVALID_LOGGING_POLICY;
+import static com.github.richardjwild.randomizer.localization.Messages.LOGGING_POLICY_COUNT_MUST_BE_GREATER_THAN_ZERO;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * Decides which generated random values are written to the log. Policies can be set for all randomizers, or for
+ * randomizers of one type, with {@link ValueLogger#setDefaultPolicy} and {@link ValueLogger#setPolicy}.<p>
+ * The default policy can also be set with the <code>randomizer.logging</code> system property, which may be
+ * <code>all</code>, <code>none</code>, <code>every:&lt;n&gt;</code> or <code>first:&lt;n&gt;</code>.
+ */
+public abstract class LoggingPolicy {
+
+    private static final LoggingPolicy ALL = new LoggingPolicy() {
+        @Override
+        boolean shouldLog(AtomicLong count) {
+            return true;
+        }
+    };
+
+    private static final LoggingPolicy NONE = new LoggingPolicy() {
+        @Override
+        boolean shouldLog(AtomicLong count) {
+            return false;
+        }
+    };
+
+    /**
+     * Logs every generated value.
+     * @return The policy.
+     */
+    public static LoggingPolicy all() {
+        return ALL;
+    }
+
+    /**
+     * Logs nothing at all, including randomizer seeds.
+     * @return The policy.
+     */
+    public static LoggingPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Logs one in every <code>n</code> generated values, starting with the first.
+     * @param n How often to log a value.
+     * @return The policy.
+     */
+    public static LoggingPolicy everyNth(long n) {
+        check(() -> n <= 0, LOGGING_POLICY_COUNT_MUST_BE_GREATER_THAN_ZERO);
+        return new LoggingPolicy() {
+            @Override
+            boolean shouldLog(AtomicLong count) {
+                return count.getAndIncrement() % n == 0;
+            }
+        };
+    }
+
+    /**
+     * Logs only the first <code>n</code> generated values.
+     * @param n How many values to log.
+     * @return The policy.
+     */
+    public static LoggingPolicy firstN(long n) {
+        check(() -> n <= 0, LOGGING_POLICY_COUNT_MUST_BE_GREATER_THAN_ZERO);
+        return new LoggingPolicy() {
+            @Override
+            boolean shouldLog(AtomicLong count) {
+                return count.get() < n && count.getAndIncrement() < n;
+            }
+        };
+    }
+
+    /**
+     * Reads a policy from its textual form: <code>all</code>, <code>none</code>, <code>every:&lt;n&gt;</code> or
+     * <code>first:&lt;n&gt;</code>.
+     * @param policy The textual form of the policy.
+     * @return The policy.
+     * @throws IllegalArgumentException The text does not describe a valid policy.
+     */
+    public static LoggingPolicy parse(String policy) {
+        String[] parts = policy.trim().toLowerCase().split(":");
+        try {
+            if (parts.length == 1 && parts[0].equals("all"))
+                return all();
+            if (parts.length == 1 && parts[0].equals("none"))
+                return none();
+            if (parts.length == 2 && parts[0].equals("every"))
+                return everyNth(Long.parseLong(parts[1]));
+            if (parts.length == 2 && parts[0].equals("first"))
+                return firstN(Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            // fall through to the exception below
+        }
+        throw new IllegalArgumentException(getMessage(INVALID_LOGGING_POLICY, policy));
+    }
+
+    boolean logsAnything() {
+        return this != NONE;
+    }
+
+    abstract boolean shouldLog(AtomicLong count);
+}
@@ -0,0 +1,159 @@
+package com.github.richardjwild.randomizer.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Logs generated random values at INFO level on behalf of one randomizer class, subject to a {@link LoggingPolicy}.
+ * The policy is checked before the log level, and messages are only formatted when they are actually written, so a
+ * randomizer whose values are not logged pays almost nothing per value.
+ */
+public class ValueLogger {
+
+    private static final String LOGGING_POLICY_PROPERTY = "randomizer.logging";
+
+    private static final ClassValue<ValueLogger> VALUE_LOGGERS = new ClassValue<ValueLogger>() {
+        @Override
+        protected ValueLogger computeValue(Class<?> randomizerClass) {
+            return new ValueLogger(randomizerClass);
+        }
+    };
+
+    private static volatile LoggingPolicy defaultPolicy = defaultPolicyFromSystemProperty();
+
+    private static LoggingPolicy defaultPolicyFromSystemProperty() {
+        return ofNullable(System.getProperty(LOGGING_POLICY_PROPERTY))
+                .map(LoggingPolicy::parse)
+                .orElse(LoggingPolicy.all());
+    }
+
+    /**
+     * Gets the value logger for a randomizer class. There is one value logger per class, so sampling counts are
+     * shared by all instances of the class.
+     * @param randomizerClass The class of the randomizer, e.g. <code>IntegerRandomizer.class</code>.
+     * @return The value logger.
+     */
+    public static ValueLogger forRandomizer(Class<?> randomizerClass) {
+        return VALUE_LOGGERS.get(randomizerClass);
+    }
+
+    /**
+     * Sets the logging policy for every randomizer that does not have its own policy.
+     * @param policy The logging policy.
+     */
+    public static void setDefaultPolicy(LoggingPolicy policy) {
+        defaultPolicy = policy;
+    }
+
+    /**
+     * Sets the logging policy for one randomizer class, overriding the default policy.
+     * @param randomizerClass The class of the randomizer, e.g. <code>IntegerRandomizer.class</code>.
+     * @param policy The logging policy, or <code>null</code> to go back to using the default policy.
+     */
+    public static void setPolicy(Class<?> randomizerClass, LoggingPolicy policy) {
+        forRandomizer(randomizerClass).usePolicy(policy);
+    }
+
+    private final Logger logger;
+    private final AtomicLong count = new AtomicLong();
+    private volatile LoggingPolicy policy;
+
+    private ValueLogger(Class<?> randomizerClass) {
+        this.logger = LoggerFactory.getLogger(randomizerClass);
+    }
+
+    private void usePolicy(LoggingPolicy policy) {
+        this.policy = policy;
+        count.set(0);
+    }
+
+    private LoggingPolicy policy() {
+        LoggingPolicy policy = this.policy;
+        return policy == null ? defaultPolicy : policy;
+    }
+
+    /**
+     * Logs the seed that a randomizer generates its values from, so that they can be reproduced.
+     * @param seed The seed.
+     */
+    public void logSeed(long seed) {
+        if (policy().logsAnything() && logger.isInfoEnabled())
+            logger.info("Randomizer seed: {}", seed);
+    }
+
+    /**
+     * Logs a generated random value, if the logging policy selects it.
+     * @param value The generated value.
+     */
+    public void logValue(Object value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random int, if the logging policy selects it. The value is only boxed if it is logged.
+     * @param value The generated value.
+     */
+    public void logValue(int value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random long, if the logging policy selects it. The value is only boxed if it is logged.
+     * @param value The generated value.
+     */
+    public void logValue(long value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random double, if the logging policy selects it. The value is only boxed if it is logged.
+     * @param value The generated value.
+     */
+    public void logValue(double value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random float, if the logging policy selects it. The value is only boxed if it is logged.
+     * @param value The generated value.
+     */
+    public void logValue(float value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random char, if the logging policy selects it. The value is only boxed if it is logged.
+     * @param value The generated value.
+     */
+    public void logValue(char value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    /**
+     * Logs a generated random boolean, if the logging policy selects it.
+     * @param value The generated value.
+     */
+    public void logValue(boolean value) {
+        if (selectsNextValue())
+            write(value);
+    }
+
+    private boolean selectsNextValue() {
+        LoggingPolicy policy = policy();
+        return policy.logsAnything() && logger.isInfoEnabled() && policy.shouldLog(count);
+    }
+
+    private void write(Object value) {
+        logger.info("Random {}: {}", value.getClass().getSimpleName(), value);
+    }
+}
@@ -1,23 +1,30 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.localization.Messages.NO_VALUE_AT_SCALE;
+import static com.github.richardjwild.randomizer.localization.Messages.UNSCALED_VALUES_DO_NOT_FIT_IN_LONG;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
 /**
  * Creates randomized BigDecimal values suitable for use as test data in automated tests.<p>
  * Usage: <code>BigDecimal randomValue = Randomizer.forType(BigDecimal.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
  * value. These constraints are: <code>max</code>, <code>min</code>, and <code>scale</code>. If any other constraint
- * method is called on this class an <code>UnsupportedOperationException</code> will be thrown.
+ * method is called on this class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * Values are exact: every number of the required scale between the minimum and maximum is equally likely, however
+ * large or precise the bounds are. When the unscaled values fit in a long they are generated without any intermediate
+ * objects, and {@link #fill(long[])} generates them without creating any BigDecimals at all.
  */
 public class BigDecimalRandomizer extends Randomizer<BigDecimal> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(BigDecimalRandomizer.class);
-
     private BigDecimal maximum = new BigDecimal(Long.MAX_VALUE);
     private BigDecimal minimum = new BigDecimal(Long.MIN_VALUE);
     private int scale = 0;
@@ -28,11 +35,54 @@ public class BigDecimalRandomizer extends Randomizer<BigDecimal> {
      */
     @Override
     public BigDecimal value() {
-        Double range = maximum.subtract(minimum).doubleValue();
-        Double randomDouble = random.nextDouble() * range;
-        BigDecimal value = BigDecimal.valueOf(randomDouble).add(minimum).setScale(scale, RoundingMode.HALF_UP);
-        LOGGER.info("Random BigDecimal: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Fills an array with the unscaled values of random BigDecimals within the specified constraints, i.e. each value
+     * multiplied by ten to the power of the scale. The array can be reused, and filling it allocates nothing. Like
+     * values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum, no value of the required scale lay
+     * between them, or the unscaled values did not all fit in a long.
+     */
+    public long[] fill(long[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with the unscaled values of random BigDecimals within the specified constraints, i.e. each
+     * value multiplied by ten to the power of the scale. The array can be reused, and filling it allocates nothing.
+     * Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, the minimum was greater than the maximum,
+     * no value of the required scale lay between them, or the unscaled values did not all fit in a long.
+     */
+    public long[] fill(long[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        BigDecimalGenerator generator = (BigDecimalGenerator) compiled();
+        check(() -> !generator.fitsInLong, UNSCALED_VALUES_DO_NOT_FIT_IN_LONG);
+        generator.fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random BigDecimals within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum, or no value of the required scale lay
+     * between them.
+     */
+    @Override
+    public Generator<BigDecimal> compile() {
+        check(() -> minimum.compareTo(maximum) > 0, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        BigInteger low = minimum.setScale(scale, RoundingMode.CEILING).unscaledValue();
+        BigInteger high = maximum.setScale(scale, RoundingMode.FLOOR).unscaledValue();
+        check(() -> low.compareTo(high) > 0, NO_VALUE_AT_SCALE, String.valueOf(scale));
+        return new BigDecimalGenerator(this, low, high, scale);
     }
 
     /**
@@ -44,6 +94,7 @@ public class BigDecimalRandomizer extends Randomizer<BigDecimal> {
     @Override
     public BigDecimalRandomizer max(BigDecimal maxValue) {
         this.maximum = maxValue;
+        constraintsChanged();
         return this;
     }
 
@@ -56,6 +107,7 @@ public class BigDecimalRandomizer extends Randomizer<BigDecimal> {
     @Override
     public BigDecimalRandomizer min(BigDecimal minValue) {
         this.minimum = minValue;
+        constraintsChanged();
         return this;
     }
 
@@ -67,6 +119,76 @@ public class BigDecimalRandomizer extends Randomizer<BigDecimal> {
     @Override
     public BigDecimalRandomizer scale(int scale) {
         this.scale = scale;
+        constraintsChanged();
         return this;
     }
+
+    private static class BigDecimalGenerator extends Generator<BigDecimal> {
+
+        private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+        private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+        private final boolean fitsInLong;
+        private final long lowLong, highLong, rangeLong;
+        private final BigInteger low, range;
+        private final int bits, scale;
+
+        private BigDecimalGenerator(Randomizer<?> randomizer, BigInteger low, BigInteger high, int scale) {
+            super(randomizer);
+            this.fitsInLong = low.compareTo(LONG_MIN) >= 0 && high.compareTo(LONG_MAX) <= 0;
+            this.lowLong = low.longValue();
+            this.highLong = high.longValue();
+            this.rangeLong = highLong - lowLong + 1;
+            this.low = low;
+            this.range = high.subtract(low).add(BigInteger.ONE);
+            this.bits = range.bitLength();
+            this.scale = scale;
+        }
+
+        @Override
+        protected BigDecimal generate(RandomEngine random) {
+            return fitsInLong
+                    ? BigDecimal.valueOf(nextUnscaledLong(random), scale)
+                    : new BigDecimal(nextUnscaled(random), scale);
+        }
+
+        // As for LongRandomizer, the range overflows to zero when it spans every long value, and to a negative number
+        // when it spans more than half of them.
+        private long nextUnscaledLong(RandomEngine random) {
+            if (rangeLong > 0)
+                return random.nextLong(rangeLong) + lowLong;
+            if (rangeLong == 0)
+                return random.nextLong();
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value < lowLong || value > highLong);
+            return value;
+        }
+
+        // Drawing as many bits as the range needs and rejecting values beyond it takes fewer than two draws on average.
+        private BigInteger nextUnscaled(RandomEngine random) {
+            BigInteger value;
+            do {
+                value = randomBits(random);
+            } while (value.compareTo(range) >= 0);
+            return low.add(value);
+        }
+
+        private BigInteger randomBits(RandomEngine random) {
+            byte[] bytes = new byte[(bits + 7) / 8];
+            for (int i = 0; i < bytes.length; i += 8) {
+                long word = random.nextLong();
+                for (int b = i; b < Math.min(i + 8, bytes.length); b++, word >>>= 8)
+                    bytes[b] = (byte) word;
+            }
+            bytes[0] &= 0xFF >>> (bytes.length * 8 - bits);
+            return new BigInteger(1, bytes);
+        }
+
+        private void fill(long[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextUnscaledLong(engine());
+        }
+    }
 }
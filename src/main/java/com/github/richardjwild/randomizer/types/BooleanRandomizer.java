@@ -1,27 +1,61 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
 
 /**
  * Creates randomized Boolean values suitable for use as test data in automated tests.<p>
  * Usage: <code>Boolean randomValue = Randomizer.forType(Boolean.class).value();</code><p>
  * This class does not implement any constraints; if any constraint method is called on this class an
- * <code>UnsupportedOperationException</code> will be thrown.
+ * <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #booleanValue()}.
  */
 public class BooleanRandomizer extends Randomizer<Boolean> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(BooleanRandomizer.class);
-
     /**
      * Gets the generated random boolean value for the specified type.
      * @return The generated random boolean value.
      */
     @Override
     public Boolean value() {
-        boolean value = (random.nextInt() & 1) == 1;
-        LOGGER.info("Random Boolean: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random boolean value without boxing it.
+     * @return The generated random boolean value.
+     */
+    public boolean booleanValue() {
+        return logged(((BooleanGenerator) compiled()).nextBoolean());
+    }
+
+    /**
+     * Creates a generator of random booleans.
+     * @return The generator.
+     */
+    @Override
+    public Generator<Boolean> compile() {
+        return new BooleanGenerator(this);
+    }
+
+    private static class BooleanGenerator extends Generator<Boolean> {
+
+        private BooleanGenerator(Randomizer<?> randomizer) {
+            super(randomizer);
+        }
+
+        @Override
+        protected Boolean generate(RandomEngine random) {
+            return nextBoolean(random);
+        }
+
+        private boolean nextBoolean() {
+            return nextBoolean(engine());
+        }
+
+        private boolean nextBoolean(RandomEngine random) {
+            return (random.nextInt() & 1) == 1;
+        }
     }
 }
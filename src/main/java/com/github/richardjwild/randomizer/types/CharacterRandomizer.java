@@ -1,22 +1,27 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.nio.CharBuffer;
+
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 
 /**
  * Creates randomized Character values suitable for use as test data in automated tests.<p>
  * Usage: <code>Character randomValue = Randomizer.forType(Character.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
  * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #charValue()}, e.g.
+ * <code>char randomValue = new CharacterRandomizer().min('a').max('z').charValue();</code>
  */
 public class CharacterRandomizer extends Randomizer<Character> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CharacterRandomizer.class);
-
-    private Character minValue = Character.MIN_VALUE;
-    private Character maxValue = Character.MAX_VALUE;
+    private char minValue = Character.MIN_VALUE;
+    private char maxValue = Character.MAX_VALUE;
 
     /**
      * Gets the generated random character value for the specified type, within any specified constraints.
@@ -24,11 +29,76 @@ public class CharacterRandomizer extends Randomizer<Character> {
      */
     @Override
     public Character value() {
-        int maximum = (int) maxValue;
-        int minimum = (int) minValue;
-        char value = (char) (random.nextInt(maximum - minimum) + minimum);
-        LOGGER.info("Random Character: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random character value, within any specified constraints, without boxing it.
+     * @return The generated random character value.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public char charValue() {
+        return logged(((CharacterGenerator) compiled()).nextChar());
+    }
+
+    /**
+     * Fills an array with random characters within the specified constraints. The array can be reused, and filling it
+     * allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public char[] fill(char[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random characters within the specified constraints. The array can be reused, and
+     * filling it allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the minimum was greater than the
+     * maximum.
+     */
+    public char[] fill(char[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((CharacterGenerator) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Fills the remaining characters of a buffer, from its position to its limit, with random characters within the
+     * specified constraints, leaving its position at its limit. Like values obtained directly from a generator, the
+     * values are not logged.
+     * @param buffer The buffer to fill.
+     * @return The same buffer.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     * @throws java.nio.ReadOnlyBufferException The buffer is read-only.
+     */
+    public CharBuffer fill(CharBuffer buffer) {
+        CharacterGenerator generator = (CharacterGenerator) compiled();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            generator.fill(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+            buffer.position(buffer.limit());
+        } else {
+            while (buffer.hasRemaining())
+                buffer.put(generator.nextChar());
+        }
+        return buffer;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random characters within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Character> compile() {
+        check(() -> minValue > maxValue, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        return new CharacterGenerator(this, minValue, maxValue - minValue + 1);
     }
 
     /**
@@ -38,8 +108,19 @@ public class CharacterRandomizer extends Randomizer<Character> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Character> min(Character minValue) {
+    public CharacterRandomizer min(Character minValue) {
+        return min(minValue.charValue());
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random value. The minimum is inclusive, i.e. the generated value may
+     * be greater than or equal to the minimum boundary. The default is {@link Character#MIN_VALUE}.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public CharacterRandomizer min(char minValue) {
         this.minValue = minValue;
+        constraintsChanged();
         return this;
     }
 
@@ -50,8 +131,48 @@ public class CharacterRandomizer extends Randomizer<Character> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Character> max(Character maxValue) {
+    public CharacterRandomizer max(Character maxValue) {
+        return max(maxValue.charValue());
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random value. The maximum is inclusive, i.e. the generated value may
+     * be less than or equal to the maximum boundary. The default is {@link Character#MAX_VALUE}.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public CharacterRandomizer max(char maxValue) {
         this.maxValue = maxValue;
+        constraintsChanged();
         return this;
     }
+
+    private static class CharacterGenerator extends Generator<Character> {
+
+        private final int minimum, range;
+
+        private CharacterGenerator(Randomizer<?> randomizer, int minimum, int range) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.range = range;
+        }
+
+        @Override
+        protected Character generate(RandomEngine random) {
+            return nextChar(random);
+        }
+
+        private char nextChar() {
+            return nextChar(engine());
+        }
+
+        private char nextChar(RandomEngine random) {
+            return (char) (random.nextInt(range) + minimum);
+        }
+
+        private void fill(char[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextChar(engine());
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.types.pattern.StringPatternPlan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Receives generated characters a chunk at a time, so that very long strings can be written out without ever being
+ * held in memory as a whole. The chunk array is reused for every chunk, so sinks must not keep hold of it.
+ */
+abstract class CharacterSink implements StringPatternPlan.ChunkSink {
+
+    static CharacterSink to(Appendable out) {
+        return new CharacterSink() {
+            @Override
+            public void write(char[] chunk, int length) throws IOException {
+                out.append(CharBuffer.wrap(chunk, 0, length));
+            }
+        };
+    }
+
+    static CharacterSink to(Writer out) {
+        return new CharacterSink() {
+            @Override
+            public void write(char[] chunk, int length) throws IOException {
+                out.write(chunk, 0, length);
+            }
+        };
+    }
+
+    static ChannelSink to(WritableByteChannel out, Charset charset) {
+        return new ChannelSink(out, charset);
+    }
+
+    void finish() throws IOException {
+    }
+
+    /**
+     * Encodes characters into a fixed-size byte buffer and writes it to a channel whenever it fills up. Characters
+     * that cannot be encoded in the charset, such as unpaired surrogates, are replaced with the charset's replacement.
+     * An encoder may hold back the last character of a chunk if it could be the first half of a surrogate pair, so
+     * unconsumed characters are carried over to the next chunk.
+     */
+    static class ChannelSink extends CharacterSink {
+
+        private final WritableByteChannel out;
+        private final CharsetEncoder encoder;
+        private final CharBuffer characters;
+        private final ByteBuffer bytes;
+        private long bytesWritten;
+
+        private ChannelSink(WritableByteChannel out, Charset charset) {
+            this.out = out;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.characters = CharBuffer.allocate(2 * StringRandomizer.CHUNK_SIZE);
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(StringRandomizer.CHUNK_SIZE * encoder.maxBytesPerChar()));
+        }
+
+        @Override
+        public void write(char[] chunk, int length) throws IOException {
+            characters.put(chunk, 0, length);
+            characters.flip();
+            encode(false);
+            characters.compact();
+        }
+
+        @Override
+        void finish() throws IOException {
+            characters.flip();
+            encode(true);
+            while (encoder.flush(bytes).isOverflow())
+                drain();
+            drain();
+        }
+
+        long bytesWritten() {
+            return bytesWritten;
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            CoderResult result;
+            while ((result = encoder.encode(characters, bytes, endOfInput)).isOverflow())
+                drain();
+            if (result.isError())
+                result.throwException();
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining())
+                bytesWritten += out.write(bytes);
+            bytes.clear();
+        }
+    }
+}
@@ -1,24 +1,27 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.distribution.Distribution;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
 
 import java.util.Date;
 
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
 /**
  * Creates randomized Date values suitable for use as test data in automated tests.<p>
  * Usage: <code>Date randomValue = Randomizer.forType(Date.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
- * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * value. These constraints are: <code>max</code>, <code>min</code> and <code>distribution</code>. If any other
+ * constraint method is called on this class an <code>UnsupportedOperationException</code> will be thrown.
  */
 public class DateRandomizer extends Randomizer<Date> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(DateRandomizer.class);
-
     private long maximum = Long.MAX_VALUE;
     private long minimum = Long.MIN_VALUE;
+    private Distribution distribution;
 
     /**
      * Gets the generated random date value, within any specified constraints.
@@ -26,13 +29,48 @@ public class DateRandomizer extends Randomizer<Date> {
      */
     @Override
     public Date value() {
-        double max = (double) maximum;
-        double min = (double) minimum;
-        long randomTime = (long) (random.nextDouble() * (max - min) + min);
-        Date value = new Date();
-        value.setTime(randomTime);
-        LOGGER.info("Random Date: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Fills an array with random dates within the specified constraints, as numbers of milliseconds since the epoch,
+     * without creating any <code>Date</code> objects. Like values obtained directly from a generator, the values are
+     * not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public long[] fill(long[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random dates within the specified constraints, as numbers of milliseconds since the
+     * epoch, without creating any <code>Date</code> objects. Like values obtained directly from a generator, the
+     * values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the minimum was greater than the
+     * maximum.
+     */
+    public long[] fill(long[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((DateGenerator) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random dates within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Date> compile() {
+        check(() -> minimum > maximum, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        Distribution.LongSampler sampler = distribution == null ? null : distribution.longSampler(minimum, maximum);
+        return new DateGenerator(this, minimum, maximum, sampler);
     }
 
     /**
@@ -44,6 +82,7 @@ public class DateRandomizer extends Randomizer<Date> {
     @Override
     public DateRandomizer min(Date minValue) {
         this.minimum = minValue.getTime();
+        constraintsChanged();
         return this;
     }
 
@@ -56,6 +95,61 @@ public class DateRandomizer extends Randomizer<Date> {
     @Override
     public DateRandomizer max(Date maxValue) {
         this.maximum = maxValue.getTime();
+        constraintsChanged();
         return this;
     }
+
+    /**
+     * Sets the distribution of the generated random date, in place of the uniform distribution that is used by
+     * default. Dates are distributed by their milliseconds since the epoch, and the maximum and minimum boundaries
+     * still apply.
+     * @param distribution The distribution of the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public DateRandomizer distribution(Distribution distribution) {
+        this.distribution = distribution;
+        constraintsChanged();
+        return this;
+    }
+
+    private static class DateGenerator extends Generator<Date> {
+
+        private final long minimum, maximum, range;
+        private final Distribution.LongSampler sampler;
+
+        private DateGenerator(Randomizer<?> randomizer, long minimum, long maximum, Distribution.LongSampler sampler) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.range = maximum - minimum + 1;
+            this.sampler = sampler;
+        }
+
+        @Override
+        protected Date generate(RandomEngine random) {
+            return new Date(nextMillis(random));
+        }
+
+        // As for LongRandomizer, the range overflows to zero when it spans every long value, and to a negative number
+        // when it spans more than half of them.
+        private long nextMillis(RandomEngine random) {
+            if (sampler != null)
+                return sampler.nextLong(random);
+            if (range > 0)
+                return random.nextLong(range) + minimum;
+            if (range == 0)
+                return random.nextLong();
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value < minimum || value > maximum);
+            return value;
+        }
+
+        private void fill(long[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextMillis(engine());
+        }
+    }
 }
@@ -1,22 +1,29 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.distribution.Distribution;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.util.function.DoubleSupplier;
+
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 
 /**
  * Creates randomized Double values suitable for use as test data in automated tests.<p>
  * Usage: <code>Double randomValue = Randomizer.forType(Double.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
- * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * value. These constraints are: <code>max</code>, <code>min</code> and <code>distribution</code>. If any other
+ * constraint method is called on this class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #doubleValue()} or {@link #doubleSupplier()}, e.g.
+ * <code>double randomValue = new DoubleRandomizer().min(0.0).max(1.0).doubleValue();</code>
  */
 public class DoubleRandomizer extends Randomizer<Double> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(DoubleRandomizer.class);
-
-    private Double maxValue = Double.MAX_VALUE;
-    private Double minValue = Double.MAX_VALUE * -1.0D;
+    private double maxValue = Double.MAX_VALUE;
+    private double minValue = Double.MAX_VALUE * -1.0D;
+    private Distribution distribution;
 
     /**
      * Gets the generated random double value, within any specified constraints.
@@ -24,9 +31,67 @@ public class DoubleRandomizer extends Randomizer<Double> {
      */
     @Override
     public Double value() {
-        double value = (random.nextDouble() * (maxValue - minValue)) + minValue;
-        LOGGER.info("Random Double: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random double value, within any specified constraints, without boxing it.
+     * @return The generated random double.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public double doubleValue() {
+        return logged(((DoubleGenerator) compiled()).nextDouble());
+    }
+
+    /**
+     * Gets a supplier of random doubles within the specified constraints. The supplier does not box the values it
+     * generates, and like any compiled generator it can be shared between threads.
+     * @return The supplier.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public DoubleSupplier doubleSupplier() {
+        return (DoubleGenerator) compiled();
+    }
+
+    /**
+     * Fills an array with random doubles within the specified constraints. The array can be reused, and filling it
+     * allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public double[] fill(double[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random doubles within the specified constraints. The array can be reused, and
+     * filling it allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the minimum was greater than the
+     * maximum.
+     */
+    public double[] fill(double[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((DoubleGenerator) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random doubles within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Double> compile() {
+        check(() -> minValue > maxValue, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        Distribution.DoubleSampler sampler = distribution == null
+                ? null
+                : distribution.doubleSampler(minValue, maxValue);
+        return new DoubleGenerator(this, minValue, maxValue, sampler);
     }
 
     /**
@@ -36,8 +101,19 @@ public class DoubleRandomizer extends Randomizer<Double> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Double> max(Double maxValue) {
+    public DoubleRandomizer max(Double maxValue) {
+        return max(maxValue.doubleValue());
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random double. The maximum is inclusive, i.e. the generated value may
+     * be less than or equal to the maximum boundary.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public DoubleRandomizer max(double maxValue) {
         this.maxValue = maxValue;
+        constraintsChanged();
         return this;
     }
 
@@ -48,8 +124,74 @@ public class DoubleRandomizer extends Randomizer<Double> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Double> min(Double minValue) {
+    public DoubleRandomizer min(Double minValue) {
+        return min(minValue.doubleValue());
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random double. The minimum is inclusive, i.e. the generated value may
+     * be greater than or equal to the minimum boundary.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public DoubleRandomizer min(double minValue) {
         this.minValue = minValue;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the distribution of the generated random double, in place of the uniform distribution that is used by
+     * default. The maximum and minimum boundaries still apply.
+     * @param distribution The distribution of the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public DoubleRandomizer distribution(Distribution distribution) {
+        this.distribution = distribution;
+        constraintsChanged();
         return this;
     }
+
+    private static class DoubleGenerator extends Generator<Double> implements DoubleSupplier {
+
+        private final double minimum, maximum, halfRange;
+        private final Distribution.DoubleSampler sampler;
+
+        private DoubleGenerator(Randomizer<?> randomizer, double minimum, double maximum,
+                                Distribution.DoubleSampler sampler) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.halfRange = maximum / 2 - minimum / 2;
+            this.sampler = sampler;
+        }
+
+        @Override
+        protected Double generate(RandomEngine random) {
+            return nextDouble(random);
+        }
+
+        private double nextDouble() {
+            return nextDouble(engine());
+        }
+
+        // Adding half the scaled range twice keeps the arithmetic finite even when the bounds span every double.
+        private double nextDouble(RandomEngine random) {
+            if (sampler != null)
+                return sampler.nextDouble(random);
+            double offset = random.nextDouble() * halfRange;
+            return Math.min(minimum + offset + offset, maximum);
+        }
+
+        private void fill(double[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextDouble(engine());
+        }
+
+        @Override
+        public double getAsDouble() {
+            return nextDouble();
+        }
+    }
 }
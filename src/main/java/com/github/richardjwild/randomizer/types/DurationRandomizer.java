@@ -0,0 +1,33 @@
+package com.github.richardjwild.randomizer.types;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Creates randomized Duration values suitable for use as test data in automated tests.<p>
+ * Usage: <code>Duration randomValue = Randomizer.forType(Duration.class).value();</code><p>
+ * The values lie between zero and one day, in whole milliseconds, unless other constraints are specified. Negative
+ * durations are allowed. The numbers generated by {@link #fill(long[])} are the lengths of the durations in units of
+ * the granularity.
+ */
+public class DurationRandomizer extends TemporalRandomizer<Duration> {
+
+    public DurationRandomizer() {
+        super(Duration.ZERO, Duration.ofDays(1), ChronoUnit.MILLIS);
+    }
+
+    @Override
+    protected long epochSecond(Duration value) {
+        return value.getSeconds();
+    }
+
+    @Override
+    protected int nano(Duration value) {
+        return value.getNano();
+    }
+
+    @Override
+    protected Factory<Duration> factory() {
+        return Duration::ofSeconds;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
+
+/**
+ * Creates randomized enum constants suitable for use as test data in automated tests. Every constant of the enum is
+ * equally likely.<p>
+ * Usage: <code>TimeUnit randomValue = Randomizer.forType(TimeUnit.class).value();</code><p>
+ * This class does not implement any constraints; if any constraint method is called on this class an
+ * <code>UnsupportedOperationException</code> will be thrown.
+ * @param <E> The enum type.
+ */
+public class EnumRandomizer<E extends Enum<E>> extends Randomizer<E> {
+
+    private final E[] constants;
+
+    /**
+     * Creates a randomizer of the constants of an enum.
+     * @param type The enum type.
+     * @throws NoRandomizerFoundException The enum has no constants.
+     */
+    public EnumRandomizer(Class<E> type) {
+        constants = type.getEnumConstants();
+        if (constants.length == 0)
+            throw new NoRandomizerFoundException(type.getName());
+    }
+
+    /**
+     * Gets a randomly chosen constant of the enum.
+     * @return The generated random value.
+     */
+    @Override
+    public E value() {
+        return logged(compiled().next());
+    }
+
+    /**
+     * Creates a generator of randomly chosen constants of the enum.
+     * @return The generator.
+     */
+    @Override
+    public Generator<E> compile() {
+        return new EnumGenerator<>(this, constants);
+    }
+
+    private static class EnumGenerator<E> extends Generator<E> {
+
+        private final E[] constants;
+
+        private EnumGenerator(Randomizer<?> randomizer, E[] constants) {
+            super(randomizer);
+            this.constants = constants;
+        }
+
+        @Override
+        protected E generate(RandomEngine random) {
+            return constants[random.nextInt(constants.length)];
+        }
+    }
+}
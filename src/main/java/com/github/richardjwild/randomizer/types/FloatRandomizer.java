@@ -1,22 +1,25 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 
 /**
  * Creates randomized Float values suitable for use as test data in automated tests.<p>
  * Usage: <code>Float randomValue = Randomizer.forType(Float.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
  * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #floatValue()}, e.g.
+ * <code>float randomValue = new FloatRandomizer().min(0.0f).max(1.0f).floatValue();</code>
  */
 public class FloatRandomizer extends Randomizer<Float> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(FloatRandomizer.class);
-
-    private Float maxValue = Float.MAX_VALUE;
-    private Float minValue = Float.MAX_VALUE * -1.0f;
+    private float maxValue = Float.MAX_VALUE;
+    private float minValue = Float.MAX_VALUE * -1.0f;
 
     /**
      * Gets the generated random float value, within any specified constraints.
@@ -24,9 +27,27 @@ public class FloatRandomizer extends Randomizer<Float> {
      */
     @Override
     public Float value() {
-        float value = (random.nextFloat() * (maxValue - minValue)) + minValue;
-        LOGGER.info("Random Float: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random float value, within any specified constraints, without boxing it.
+     * @return The generated random float.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public float floatValue() {
+        return logged(((FloatGenerator) compiled()).nextFloat());
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random floats within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Float> compile() {
+        check(() -> minValue > maxValue, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        return new FloatGenerator(this, minValue, maxValue);
     }
 
     /**
@@ -36,8 +57,19 @@ public class FloatRandomizer extends Randomizer<Float> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Float> max(Float maxValue) {
+    public FloatRandomizer max(Float maxValue) {
+        return max(maxValue.floatValue());
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random float. The maximum is inclusive, i.e. the generated value may
+     * be less than or equal to the maximum boundary.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public FloatRandomizer max(float maxValue) {
         this.maxValue = maxValue;
+        constraintsChanged();
         return this;
     }
 
@@ -48,8 +80,47 @@ public class FloatRandomizer extends Randomizer<Float> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Float> min(Float minValue) {
+    public FloatRandomizer min(Float minValue) {
+        return min(minValue.floatValue());
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random float. The minimum is inclusive, i.e. the generated value may
+     * be greater than or equal to the minimum boundary.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public FloatRandomizer min(float minValue) {
         this.minValue = minValue;
+        constraintsChanged();
         return this;
     }
+
+    private static class FloatGenerator extends Generator<Float> {
+
+        private final float minimum, maximum;
+        private final double range;
+
+        private FloatGenerator(Randomizer<?> randomizer, float minimum, float maximum) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.range = (double) maximum - minimum;
+        }
+
+        @Override
+        protected Float generate(RandomEngine random) {
+            return nextFloat(random);
+        }
+
+        private float nextFloat() {
+            return nextFloat(engine());
+        }
+
+        // The range is worked out in double precision, in which it cannot overflow even when the bounds span every
+        // float.
+        private float nextFloat(RandomEngine random) {
+            return Math.min((float) (minimum + random.nextDouble() * range), maximum);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.github.richardjwild.randomizer.types;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Creates randomized Instant values suitable for use as test data in automated tests.<p>
+ * Usage: <code>Instant randomValue = Randomizer.forType(Instant.class).value();</code><p>
+ * The values lie between 1900-01-01T00:00:00Z and 2100-01-01T00:00:00Z, in whole milliseconds, unless other
+ * constraints are specified. To generate instants without creating them, e.g. for an event log, use
+ * {@link #fill(long[])}, e.g.
+ * <code>long[] epochMillis = new InstantRandomizer().min(start).max(end).fill(new long[1_000_000]);</code>
+ */
+public class InstantRandomizer extends TemporalRandomizer<Instant> {
+
+    static final Instant DEFAULT_MINIMUM = Instant.parse("1900-01-01T00:00:00Z");
+    static final Instant DEFAULT_MAXIMUM = Instant.parse("2100-01-01T00:00:00Z");
+
+    public InstantRandomizer() {
+        super(DEFAULT_MINIMUM, DEFAULT_MAXIMUM, ChronoUnit.MILLIS);
+    }
+
+    @Override
+    protected long epochSecond(Instant value) {
+        return value.getEpochSecond();
+    }
+
+    @Override
+    protected int nano(Instant value) {
+        return value.getNano();
+    }
+
+    @Override
+    protected Factory<Instant> factory() {
+        return Instant::ofEpochSecond;
+    }
+}
@@ -1,22 +1,29 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.distribution.Distribution;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.util.function.IntSupplier;
+
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 
 /**
  * Creates randomized Integer values suitable for use as test data in automated tests.<p>
  * Usage: <code>Integer randomValue = Randomizer.forType(Integer.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
- * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * value. These constraints are: <code>max</code>, <code>min</code> and <code>distribution</code>. If any other
+ * constraint method is called on this class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #intValue()} or {@link #intSupplier()}, e.g.
+ * <code>int randomValue = new IntegerRandomizer().min(1).max(6).intValue();</code>
  */
 public class IntegerRandomizer extends Randomizer<Integer> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(IntegerRandomizer.class);
-
-    private Integer maxValue = Integer.MAX_VALUE;
-    private Integer minValue = 0;
+    private int maxValue = Integer.MAX_VALUE;
+    private int minValue = 0;
+    private Distribution distribution;
 
     /**
      * Gets the generated random integer value, within any specified constraints.
@@ -24,9 +31,65 @@ public class IntegerRandomizer extends Randomizer<Integer> {
      */
     @Override
     public Integer value() {
-        int value = random.nextInt(maxValue - minValue) + minValue;
-        LOGGER.info("Random Integer: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random integer value, within any specified constraints, without boxing it.
+     * @return The generated random value.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public int intValue() {
+        return logged(((IntegerGenerator) compiled()).nextInt());
+    }
+
+    /**
+     * Gets a supplier of random integers within the specified constraints. The supplier does not box the values it
+     * generates, and like any compiled generator it can be shared between threads.
+     * @return The supplier.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public IntSupplier intSupplier() {
+        return (IntegerGenerator) compiled();
+    }
+
+    /**
+     * Fills an array with random integers within the specified constraints. The array can be reused, and filling it
+     * allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public int[] fill(int[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random integers within the specified constraints. The array can be reused, and
+     * filling it allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the minimum was greater than the
+     * maximum.
+     */
+    public int[] fill(int[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((IntegerGenerator) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random integers within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Integer> compile() {
+        check(() -> minValue > maxValue, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        Distribution.LongSampler sampler = distribution == null ? null : distribution.longSampler(minValue, maxValue);
+        return new IntegerGenerator(this, minValue, (long) maxValue - minValue + 1, sampler);
     }
 
     /**
@@ -36,8 +99,19 @@ public class IntegerRandomizer extends Randomizer<Integer> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Integer> max(Integer maxValue) {
+    public IntegerRandomizer max(Integer maxValue) {
+        return max(maxValue.intValue());
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random integer. The maximum is inclusive, i.e. the generated value
+     * may be less than or equal to the maximum boundary.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public IntegerRandomizer max(int maxValue) {
         this.maxValue = maxValue;
+        constraintsChanged();
         return this;
     }
 
@@ -48,8 +122,73 @@ public class IntegerRandomizer extends Randomizer<Integer> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Integer> min(Integer minValue) {
+    public IntegerRandomizer min(Integer minValue) {
+        return min(minValue.intValue());
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random integer. The minimum is inclusive, i.e. the generated value
+     * may be greater than or equal to the minimum boundary.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public IntegerRandomizer min(int minValue) {
         this.minValue = minValue;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the distribution of the generated random integer, in place of the uniform distribution that is used by
+     * default. The maximum and minimum boundaries still apply.
+     * @param distribution The distribution of the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public IntegerRandomizer distribution(Distribution distribution) {
+        this.distribution = distribution;
+        constraintsChanged();
         return this;
     }
+
+    private static class IntegerGenerator extends Generator<Integer> implements IntSupplier {
+
+        private final int minimum;
+        private final long range;
+        private final Distribution.LongSampler sampler;
+
+        private IntegerGenerator(Randomizer<?> randomizer, int minimum, long range, Distribution.LongSampler sampler) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.range = range;
+            this.sampler = sampler;
+        }
+
+        @Override
+        protected Integer generate(RandomEngine random) {
+            return nextInt(random);
+        }
+
+        private int nextInt() {
+            return nextInt(engine());
+        }
+
+        private int nextInt(RandomEngine random) {
+            if (sampler != null)
+                return (int) sampler.nextLong(random);
+            return range <= Integer.MAX_VALUE
+                    ? random.nextInt((int) range) + minimum
+                    : (int) (random.nextLong(range) + minimum);
+        }
+
+        private void fill(int[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextInt(engine());
+        }
+
+        @Override
+        public int getAsInt() {
+            return nextInt();
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+/**
+ * A pseudo-random permutation of the numbers from zero to one less than a given size, determined by keys drawn from a
+ * random engine. It is a balanced Feistel network over the smallest even number of bits that can hold every number,
+ * which is a permutation of all numbers of that many bits. Numbers outside the range are mapped again until one falls
+ * within it ("cycle walking"), which keeps the result a permutation of the range. Since the range is more than a
+ * quarter of the numbers that the network permutes, fewer than four passes through the network are needed on average.
+ * Nothing is stored but the keys, however large the range is.
+ */
+final class KeyedPermutation {
+
+    /**
+     * The largest size that a permutation can have.
+     */
+    static final long MAX_SIZE = 1L << 62;
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    KeyedPermutation(long size, RandomEngine random) {
+        this.size = size;
+        int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++)
+            keys[i] = random.nextLong();
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Gets the number that a number is mapped to.
+     * @param value A number from zero to one less than the size.
+     * @return A number from zero to one less than the size, different for every value.
+     */
+    long apply(long value) {
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits, right = value & halfMask;
+        for (long key : keys) {
+            long next = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // The finaliser of SplitMix64, which spreads every bit of its input over every bit of its output.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
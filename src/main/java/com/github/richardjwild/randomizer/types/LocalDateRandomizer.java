@@ -0,0 +1,42 @@
+package com.github.richardjwild.randomizer.types;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Creates randomized LocalDate values suitable for use as test data in automated tests.<p>
+ * Usage: <code>LocalDate randomValue = Randomizer.forType(LocalDate.class).value();</code><p>
+ * The values lie between 1900-01-01 and 2100-01-01 unless other constraints are specified. The only granularity is
+ * {@link ChronoUnit#DAYS}, so the numbers generated by {@link #fill(long[])} are epoch days, as returned by
+ * {@link LocalDate#toEpochDay()}.
+ */
+public class LocalDateRandomizer extends TemporalRandomizer<LocalDate> {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    public LocalDateRandomizer() {
+        super(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1), ChronoUnit.DAYS);
+    }
+
+    @Override
+    protected Set<ChronoUnit> supportedGranularities() {
+        return EnumSet.of(ChronoUnit.DAYS);
+    }
+
+    @Override
+    protected long epochSecond(LocalDate value) {
+        return value.toEpochDay() * SECONDS_PER_DAY;
+    }
+
+    @Override
+    protected int nano(LocalDate value) {
+        return 0;
+    }
+
+    @Override
+    protected Factory<LocalDate> factory() {
+        return (epochSecond, nano) -> LocalDate.ofEpochDay(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+    }
+}
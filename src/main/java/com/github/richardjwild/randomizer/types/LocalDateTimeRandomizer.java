@@ -0,0 +1,34 @@
+package com.github.richardjwild.randomizer.types;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Creates randomized LocalDateTime values suitable for use as test data in automated tests.<p>
+ * Usage: <code>LocalDateTime randomValue = Randomizer.forType(LocalDateTime.class).value();</code><p>
+ * The values lie between 1900-01-01T00:00 and 2100-01-01T00:00, in whole milliseconds, unless other constraints are
+ * specified. The numbers generated by {@link #fill(long[])} count from 1970-01-01T00:00 as if the date-times were in
+ * UTC.
+ */
+public class LocalDateTimeRandomizer extends TemporalRandomizer<LocalDateTime> {
+
+    public LocalDateTimeRandomizer() {
+        super(LocalDateTime.of(1900, 1, 1, 0, 0), LocalDateTime.of(2100, 1, 1, 0, 0), ChronoUnit.MILLIS);
+    }
+
+    @Override
+    protected long epochSecond(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Override
+    protected int nano(LocalDateTime value) {
+        return value.getNano();
+    }
+
+    @Override
+    protected Factory<LocalDateTime> factory() {
+        return (epochSecond, nano) -> LocalDateTime.ofEpochSecond(epochSecond, (int) nano, ZoneOffset.UTC);
+    }
+}
@@ -1,22 +1,29 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.distribution.Distribution;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.util.function.LongSupplier;
+
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
 
 /**
  * Creates randomized Long values suitable for use as test data in automated tests.<p>
  * Usage: <code>Long randomValue = Randomizer.forType(Long.class).value();</code><p>
  * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
- * value. These constraints are: <code>max</code> and <code>min</code>. If any other constraint method is called on this
- * class an <code>UnsupportedOperationException</code> will be thrown.
+ * value. These constraints are: <code>max</code>, <code>min</code> and <code>distribution</code>. If any other
+ * constraint method is called on this class an <code>UnsupportedOperationException</code> will be thrown.<p>
+ * To generate values without boxing them, use {@link #longValue()} or {@link #longSupplier()}, e.g.
+ * <code>long randomValue = new LongRandomizer().min(1L).longValue();</code>
  */
 public class LongRandomizer extends Randomizer<Long> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LongRandomizer.class);
-
     private long maxValue = Long.MAX_VALUE;
-    private Long minValue = Long.MIN_VALUE;
+    private long minValue = Long.MIN_VALUE;
+    private Distribution distribution;
 
     /**
      * Gets the generated random long value, within any specified constraints.
@@ -24,11 +31,65 @@ public class LongRandomizer extends Randomizer<Long> {
      */
     @Override
     public Long value() {
-        double maximum = (double) maxValue;
-        double minimum = (double) minValue;
-        long value = (long) (random.nextDouble() * (maximum - minimum) + minimum);
-        LOGGER.info("Random Long: " + value);
-        return value;
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the generated random long value, within any specified constraints, without boxing it.
+     * @return The generated random value.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public long longValue() {
+        return logged(((LongGenerator) compiled()).nextLong());
+    }
+
+    /**
+     * Gets a supplier of random longs within the specified constraints. The supplier does not box the values it
+     * generates, and like any compiled generator it can be shared between threads.
+     * @return The supplier.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public LongSupplier longSupplier() {
+        return (LongGenerator) compiled();
+    }
+
+    /**
+     * Fills an array with random longs within the specified constraints. The array can be reused, and filling it
+     * allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    public long[] fill(long[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random longs within the specified constraints. The array can be reused, and
+     * filling it allocates nothing. Like values obtained directly from a generator, the values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the minimum was greater than the
+     * maximum.
+     */
+    public long[] fill(long[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((LongGenerator) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random longs within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The minimum was greater than the maximum.
+     */
+    @Override
+    public Generator<Long> compile() {
+        check(() -> minValue > maxValue, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        Distribution.LongSampler sampler = distribution == null ? null : distribution.longSampler(minValue, maxValue);
+        return new LongGenerator(this, minValue, maxValue, sampler);
     }
 
     /**
@@ -38,8 +99,19 @@ public class LongRandomizer extends Randomizer<Long> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Long> max(Long maxValue) {
+    public LongRandomizer max(Long maxValue) {
+        return max(maxValue.longValue());
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random long. The maximum is inclusive, i.e. the generated value may
+     * be less than or equal to the maximum boundary.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public LongRandomizer max(long maxValue) {
         this.maxValue = maxValue;
+        constraintsChanged();
         return this;
     }
 
@@ -50,8 +122,82 @@ public class LongRandomizer extends Randomizer<Long> {
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
-    public Randomizer<Long> min(Long minValue) {
+    public LongRandomizer min(Long minValue) {
+        return min(minValue.longValue());
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random long. The minimum is inclusive, i.e. the generated value may
+     * be greater than or equal to the minimum boundary.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public LongRandomizer min(long minValue) {
         this.minValue = minValue;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the distribution of the generated random long, in place of the uniform distribution that is used by
+     * default. The maximum and minimum boundaries still apply.
+     * @param distribution The distribution of the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public LongRandomizer distribution(Distribution distribution) {
+        this.distribution = distribution;
+        constraintsChanged();
         return this;
     }
+
+    private static class LongGenerator extends Generator<Long> implements LongSupplier {
+
+        private final long minimum, maximum, range;
+        private final Distribution.LongSampler sampler;
+
+        private LongGenerator(Randomizer<?> randomizer, long minimum, long maximum, Distribution.LongSampler sampler) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.range = maximum - minimum + 1;
+            this.sampler = sampler;
+        }
+
+        @Override
+        protected Long generate(RandomEngine random) {
+            return nextLong(random);
+        }
+
+        private long nextLong() {
+            return nextLong(engine());
+        }
+
+        // The range overflows to zero when it spans every long value, and to a negative number when it spans more than
+        // half of them, in which case drawing until a value falls within the bounds takes fewer than two draws on
+        // average.
+        private long nextLong(RandomEngine random) {
+            if (sampler != null)
+                return sampler.nextLong(random);
+            if (range > 0)
+                return random.nextLong(range) + minimum;
+            if (range == 0)
+                return random.nextLong();
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value < minimum || value > maximum);
+            return value;
+        }
+
+        private void fill(long[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextLong(engine());
+        }
+
+        @Override
+        public long getAsLong() {
+            return nextLong();
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes how to create and populate instances of a class, worked out once per class with reflection and then
+ * cached. A class is populated in one of two ways:<ul>
+ * <li>If it has a constructor whose parameters match its own instance fields in the order they are declared, as
+ * records and many immutable value classes do, and it either has no constructor without parameters or has final
+ * fields, the field values are passed to that constructor.</li>
+ * <li>Otherwise, if it has a constructor without parameters, an instance is created with it and then every non-final
+ * instance field, including those inherited from superclasses, is set.</li></ul>
+ * The constructor and the field setters are resolved into method handles, so creating an instance does no reflective
+ * lookups or access checks. Classes in the <code>java</code> packages, interfaces, abstract classes, enums, arrays and
+ * primitives cannot be populated.
+ */
+final class ObjectLayout {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<ObjectLayout> LAYOUTS = new ClassValue<ObjectLayout>() {
+        @Override
+        protected ObjectLayout computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    final Field[] fields;
+    private final MethodHandle constructor;
+    private final MethodHandle[] setters;
+    private final Object[] defaults;
+
+    private ObjectLayout(Field[] fields, MethodHandle constructor, MethodHandle[] setters, Object[] defaults) {
+        this.fields = fields;
+        this.constructor = constructor;
+        this.setters = setters;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Gets the layout of a class.
+     * @param type The class.
+     * @return The layout, or <code>null</code> if the class cannot be populated.
+     */
+    static ObjectLayout of(Class<?> type) {
+        return LAYOUTS.get(type);
+    }
+
+    /**
+     * Creates an instance, with each field given the next value of its generator or left with its default value if
+     * it has no generator.
+     * @param generators The generator for each of the {@link #fields}, or <code>null</code>.
+     * @param random The random engine for the generators to draw from.
+     * @return The new instance.
+     * @throws Throwable The constructor threw an exception.
+     */
+    Object newInstance(Generator<?>[] generators, RandomEngine random) throws Throwable {
+        if (setters == null) {
+            Object[] arguments = new Object[generators.length];
+            for (int i = 0; i < generators.length; i++)
+                arguments[i] = generators[i] == null ? defaults[i] : generators[i].next(random);
+            return (Object) constructor.invokeExact(arguments);
+        }
+        Object instance = (Object) constructor.invokeExact();
+        for (int i = 0; i < generators.length; i++) {
+            if (generators[i] != null) {
+                Object value = generators[i].next(random);
+                setters[i].invokeExact(instance, value);
+            }
+        }
+        return instance;
+    }
+
+    private static ObjectLayout create(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers()) || isInJavaPackage(type))
+            return null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Field[] ownFields = instanceFields(type).toArray(new Field[0]);
+            Constructor<?> canonical = canonicalConstructor(type, ownFields);
+            Constructor<?> noArguments = noArgumentsConstructor(type);
+            if (canonical != null && (noArguments == null || hasFinalField(ownFields))) {
+                canonical.setAccessible(true);
+                MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                        .asSpreader(Object[].class, ownFields.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+                Object[] defaults = new Object[ownFields.length];
+                for (int i = 0; i < ownFields.length; i++)
+                    defaults[i] = Array.get(Array.newInstance(ownFields[i].getType(), 1), 0);
+                return new ObjectLayout(ownFields, constructor, null, defaults);
+            }
+            if (noArguments != null) {
+                noArguments.setAccessible(true);
+                MethodHandle constructor = lookup.unreflectConstructor(noArguments)
+                        .asType(MethodType.methodType(Object.class));
+                List<Field> fields = new ArrayList<>();
+                for (Class<?> c = type; c != Object.class && !isInJavaPackage(c); c = c.getSuperclass())
+                    for (Field field : instanceFields(c))
+                        if (!Modifier.isFinal(field.getModifiers()))
+                            fields.add(field);
+                MethodHandle[] setters = new MethodHandle[fields.size()];
+                for (int i = 0; i < setters.length; i++) {
+                    fields.get(i).setAccessible(true);
+                    setters[i] = lookup.unreflectSetter(fields.get(i)).asType(SETTER_TYPE);
+                }
+                return new ObjectLayout(fields.toArray(new Field[0]), constructor, setters, null);
+            }
+            return null;
+        } catch (IllegalAccessException | RuntimeException e) {
+            // The class cannot be opened up, e.g. because its module does not allow it.
+            return null;
+        }
+    }
+
+    private static boolean isInJavaPackage(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+
+    private static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields())
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                fields.add(field);
+        return fields;
+    }
+
+    private static Constructor<?> canonicalConstructor(Class<?> type, Field[] fields) {
+        if (fields.length == 0)
+            return null;
+        Class<?>[] fieldTypes = new Class<?>[fields.length];
+        for (int i = 0; i < fields.length; i++)
+            fieldTypes[i] = fields[i].getType();
+        for (Constructor<?> constructor : type.getDeclaredConstructors())
+            if (Arrays.equals(constructor.getParameterTypes(), fieldTypes))
+                return constructor;
+        return null;
+    }
+
+    private static Constructor<?> noArgumentsConstructor(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasFinalField(Field[] fields) {
+        for (Field field : fields)
+            if (Modifier.isFinal(field.getModifiers()))
+                return true;
+        return false;
+    }
+}
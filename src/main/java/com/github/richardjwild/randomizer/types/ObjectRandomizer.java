@@ -0,0 +1,261 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.annotations.*;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.github.richardjwild.randomizer.localization.Messages.*;
+
+/**
+ * Creates randomized instances of other classes, such as POJOs and records, suitable for use as test data in automated
+ * tests. Each field is given a value from the randomizer that {@link Randomizer#forType} returns for the field's type,
+ * so fields whose type is itself a class that can be populated are populated in turn.<p>
+ * Usage: <code>Person randomValue = Randomizer.forType(Person.class).value();</code><p>
+ * The randomizer for a field can be constrained with annotations on the field, such as
+ * {@link com.github.richardjwild.randomizer.annotations.Min} or
+ * {@link com.github.richardjwild.randomizer.annotations.Pattern}, or replaced with {@link #field}, e.g.
+ * <code>Randomizer.forType(Person.class).field("age", new IntegerRandomizer().min(18).max(65))</code>. A field
+ * can be left with its default value with {@link #ignore} or the
+ * {@link com.github.richardjwild.randomizer.annotations.Ignore} annotation. Fields of types that no randomizer is found
+ * for, such as collections, are also left with their default values, as are fields that would refer back to an object
+ * that is still being populated.<p>
+ * How a class is created and populated, by its constructor or by setting its fields, is worked out once per class and
+ * resolved into method handles. All the fields of an object are generated from the random engine of the object, so
+ * a seeded randomizer generates the same objects every time. The constraints <code>max</code>, <code>min</code>,
+ * <code>length</code> and so on are not applicable to objects; if one of them is called on this class an
+ * <code>UnsupportedOperationException</code> will be thrown.
+ * @param <T> The type of object to be generated.
+ */
+public class ObjectRandomizer<T> extends Randomizer<T> {
+
+    private static final ThreadLocal<Set<Class<?>>> compiling = ThreadLocal.withInitial(HashSet::new);
+
+    private static final Map<Class<?>, Function<String, Object>> converters = new HashMap<>();
+
+    static {
+        addConverter(Integer.class, int.class, Integer::valueOf);
+        addConverter(Long.class, long.class, Long::valueOf);
+        addConverter(Double.class, double.class, Double::valueOf);
+        addConverter(Float.class, float.class, Float::valueOf);
+        addConverter(Character.class, char.class, ObjectRandomizer::toCharacter);
+        addConverter(BigDecimal.class, BigDecimal.class, BigDecimal::new);
+        addConverter(Date.class, Date.class, value -> Date.from(Instant.parse(value)));
+        addConverter(Instant.class, Instant.class, Instant::parse);
+        addConverter(LocalDate.class, LocalDate.class, LocalDate::parse);
+        addConverter(LocalDateTime.class, LocalDateTime.class, LocalDateTime::parse);
+        addConverter(OffsetDateTime.class, OffsetDateTime.class, OffsetDateTime::parse);
+        addConverter(Duration.class, Duration.class, Duration::parse);
+    }
+
+    private static void addConverter(Class<?> type, Class<?> primitiveType, Function<String, Object> converter) {
+        converters.put(type, converter);
+        converters.put(primitiveType, converter);
+    }
+
+    private static Character toCharacter(String value) {
+        if (value.length() != 1)
+            throw new IllegalArgumentException();
+        return value.charAt(0);
+    }
+
+    /**
+     * Determines whether instances of a class can be created and populated by an <code>ObjectRandomizer</code>. That
+     * requires a concrete class outside the <code>java</code> packages that has either a constructor without
+     * parameters or a constructor whose parameters match its instance fields, as a record's canonical constructor does.
+     * @param type The class.
+     * @return Whether the class can be populated.
+     */
+    public static boolean canPopulate(Class<?> type) {
+        return ObjectLayout.of(type) != null;
+    }
+
+    private final Class<T> type;
+    private final ObjectLayout layout;
+    private final Map<String, Randomizer<?>> fieldRandomizers = new HashMap<>();
+    private final Set<String> ignoredFields = new HashSet<>();
+
+    /**
+     * Creates a randomizer of instances of a class.
+     * @param type The class.
+     * @throws NoRandomizerFoundException The class cannot be populated.
+     */
+    public ObjectRandomizer(Class<T> type) {
+        this.type = type;
+        this.layout = ObjectLayout.of(type);
+        if (layout == null)
+            throw new NoRandomizerFoundException(type.getName());
+    }
+
+    /**
+     * Gets a generated random instance of the class, with every field populated within any specified constraints.
+     * @return The generated random object.
+     * @throws IllegalArgumentException The constraints on one of the fields were invalid.
+     * @throws IllegalStateException The class's constructor threw a checked exception.
+     */
+    @Override
+    public T value() {
+        return logged(compiled().next());
+    }
+
+    /**
+     * Resolves the randomizer for every field, validates their constraints and creates a generator of random
+     * instances of the class.
+     * @return The generator.
+     * @throws IllegalArgumentException The constraints on one of the fields were invalid.
+     */
+    @Override
+    public Generator<T> compile() {
+        Set<Class<?>> types = compiling.get();
+        types.add(type);
+        try {
+            Generator<?>[] generators = new Generator<?>[layout.fields.length];
+            for (int i = 0; i < generators.length; i++)
+                generators[i] = generatorFor(layout.fields[i], types);
+            return new ObjectGenerator<>(this, type, layout, generators);
+        } finally {
+            types.remove(type);
+        }
+    }
+
+    private Generator<?> generatorFor(Field field, Set<Class<?>> types) {
+        Randomizer<?> randomizer = fieldRandomizers.get(field.getName());
+        if (randomizer == null) {
+            if (ignoredFields.contains(field.getName()) || field.isAnnotationPresent(Ignore.class)
+                    || types.contains(field.getType()))
+                return null;
+            try {
+                randomizer = Randomizer.forType(field.getType());
+            } catch (NoRandomizerFoundException e) {
+                return null;
+            }
+            applyConstraints(randomizer, field);
+        }
+        return randomizer.compile();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void applyConstraints(Randomizer<?> fieldRandomizer, Field field) {
+        Randomizer<Object> randomizer = (Randomizer<Object>) fieldRandomizer;
+        Min min = field.getAnnotation(Min.class);
+        if (min != null)
+            randomizer.min(convert(min.value(), field));
+        Max max = field.getAnnotation(Max.class);
+        if (max != null)
+            randomizer.max(convert(max.value(), field));
+        Length length = field.getAnnotation(Length.class);
+        if (length != null)
+            randomizer.length(length.value());
+        MinLength minLength = field.getAnnotation(MinLength.class);
+        if (minLength != null)
+            randomizer.minLength(minLength.value());
+        MaxLength maxLength = field.getAnnotation(MaxLength.class);
+        if (maxLength != null)
+            randomizer.maxLength(maxLength.value());
+        MinChar minChar = field.getAnnotation(MinChar.class);
+        if (minChar != null)
+            randomizer.minChar(minChar.value());
+        MaxChar maxChar = field.getAnnotation(MaxChar.class);
+        if (maxChar != null)
+            randomizer.maxChar(maxChar.value());
+        Scale scale = field.getAnnotation(Scale.class);
+        if (scale != null)
+            randomizer.scale(scale.value());
+        Pattern pattern = field.getAnnotation(Pattern.class);
+        if (pattern != null)
+            randomizer.pattern(pattern.value());
+    }
+
+    private static Object convert(String value, Field field) {
+        Function<String, Object> converter = converters.get(field.getType());
+        try {
+            if (converter != null)
+                return converter.apply(value);
+        } catch (RuntimeException e) {
+            // Reported below, along with values of types that cannot be converted at all.
+        }
+        throw new IllegalArgumentException(getMessage(INVALID_FIELD_CONSTRAINT, field.getName(), value));
+    }
+
+    /**
+     * Sets the randomizer that generates the values of one field, in place of the one that would otherwise be chosen
+     * for the field's type. Any annotations on the field, including <code>Ignore</code>, are ignored. The randomizer
+     * is compiled along with this one, and draws its random numbers from the engine of each object, so its own seed is
+     * not used.
+     * @param name The name of the field.
+     * @param randomizer The randomizer for the field, which must generate values of the field's type.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws IllegalArgumentException The class has no field with that name that is populated.
+     */
+    @Override
+    public ObjectRandomizer<T> field(String name, Randomizer<?> randomizer) {
+        checkField(name);
+        fieldRandomizers.put(name, randomizer);
+        ignoredFields.remove(name);
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Leaves one field with its default value, such as <code>null</code> or zero.
+     * @param name The name of the field.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     * @throws IllegalArgumentException The class has no field with that name that is populated.
+     */
+    @Override
+    public ObjectRandomizer<T> ignore(String name) {
+        checkField(name);
+        ignoredFields.add(name);
+        fieldRandomizers.remove(name);
+        constraintsChanged();
+        return this;
+    }
+
+    private void checkField(String name) {
+        for (Field field : layout.fields)
+            if (field.getName().equals(name))
+                return;
+        throw new IllegalArgumentException(getMessage(NO_SUCH_FIELD, name));
+    }
+
+    private static class ObjectGenerator<T> extends Generator<T> {
+
+        private final Class<T> type;
+        private final ObjectLayout layout;
+        private final Generator<?>[] generators;
+
+        private ObjectGenerator(Randomizer<?> randomizer, Class<T> type, ObjectLayout layout,
+                                Generator<?>[] generators) {
+            super(randomizer);
+            this.type = type;
+            this.layout = layout;
+            this.generators = generators;
+        }
+
+        @Override
+        protected T generate(RandomEngine random) {
+            try {
+                return type.cast(layout.newInstance(generators, random));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(getMessage(OBJECT_CREATION_FAILED, type.getName()), e);
+            }
+        }
+    }
+}
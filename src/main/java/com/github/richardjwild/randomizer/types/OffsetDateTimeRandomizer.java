@@ -0,0 +1,68 @@
+package com.github.richardjwild.randomizer.types;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Creates randomized OffsetDateTime values suitable for use as test data in automated tests.<p>
+ * Usage: <code>OffsetDateTime randomValue = Randomizer.forType(OffsetDateTime.class).value();</code><p>
+ * The values lie between 1900-01-01T00:00:00Z and 2100-01-01T00:00:00Z, in whole milliseconds, unless other
+ * constraints are specified. They are in UTC unless another offset is specified with {@link #offset}; the bounds may be
+ * in any offset. The numbers generated by {@link #fill(long[])} count from the epoch, whatever the offset.
+ */
+public class OffsetDateTimeRandomizer extends TemporalRandomizer<OffsetDateTime> {
+
+    private ZoneOffset offset = ZoneOffset.UTC;
+
+    public OffsetDateTimeRandomizer() {
+        super(InstantRandomizer.DEFAULT_MINIMUM.atOffset(ZoneOffset.UTC),
+                InstantRandomizer.DEFAULT_MAXIMUM.atOffset(ZoneOffset.UTC), ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Sets the offset of the generated random value.
+     * @param offset The offset from UTC.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public OffsetDateTimeRandomizer offset(ZoneOffset offset) {
+        this.offset = offset;
+        constraintsChanged();
+        return this;
+    }
+
+    @Override
+    public OffsetDateTimeRandomizer max(OffsetDateTime maxValue) {
+        super.max(maxValue);
+        return this;
+    }
+
+    @Override
+    public OffsetDateTimeRandomizer min(OffsetDateTime minValue) {
+        super.min(minValue);
+        return this;
+    }
+
+    @Override
+    public OffsetDateTimeRandomizer granularity(ChronoUnit granularity) {
+        super.granularity(granularity);
+        return this;
+    }
+
+    @Override
+    protected long epochSecond(OffsetDateTime value) {
+        return value.toEpochSecond();
+    }
+
+    @Override
+    protected int nano(OffsetDateTime value) {
+        return value.getNano();
+    }
+
+    @Override
+    protected Factory<OffsetDateTime> factory() {
+        ZoneOffset offset = this.offset;
+        return (epochSecond, nano) -> Instant.ofEpochSecond(epochSecond, nano).atOffset(offset);
+    }
+}
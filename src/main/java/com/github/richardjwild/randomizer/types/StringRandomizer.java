@@ -1,27 +1,34 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
-import com.github.richardjwild.randomizer.streams.Characters;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import com.github.richardjwild.randomizer.engine.Seeds;
+import com.github.richardjwild.randomizer.types.pattern.Alphabet;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternElement;
-import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.github.richardjwild.randomizer.types.pattern.StringPatternPlan;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.OptionalInt;
 
+import static com.github.richardjwild.randomizer.engine.RandomEngines.XOROSHIRO;
 import static com.github.richardjwild.randomizer.localization.Messages.*;
+import static com.github.richardjwild.randomizer.types.pattern.StringPatternCache.sharedInstance;
 import static com.github.richardjwild.randomizer.validation.Validator.check;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Creates randomized String values suitable for use as test data in automated tests.<p>
  * Usage: <code>String randomValue = Randomizer.forType(String.class).length(&lt;length&gt;).value();</code><p>
  * This class implements the builder patternElements to allow boundaries (constraints) to be specified on the generated
  * random value. These constraints are: {@link #length}, {@link #maxLength}, {@link #minLength}, {@link #maxChar},
- * {@link #minChar} and {@link #pattern}. If any other constraint method is called on this class an
+ * {@link #minChar}, {@link #characters} and {@link #pattern}. If any other constraint method is called on this class an
  * <code>UnsupportedOperationException</code> will be thrown.<p>
  * If <code>pattern</code> is specified then no other constraint may be specified. If <code>pattern</code> is not
  * specified then either one of <code>length</code> and <code>maxLength</code> must be specified, but it is illegal to
@@ -38,11 +45,14 @@ import static java.util.stream.Collectors.toList;
  */
 public class StringRandomizer extends Randomizer<String> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(StringRandomizer.class);
+    static final int CHUNK_SIZE = 8192;
 
     private Integer length = null, maxLength = null, minLength = null;
     private Character maxChar = null, minChar = null;
+    private Alphabet characters;
     private String pattern;
+    private boolean unique;
+    private CharacterGenerator characterGenerator;
 
     /**
      * Gets the generated random string value, within any specified constraints.
@@ -53,10 +63,232 @@ public class StringRandomizer extends Randomizer<String> {
      */
     @Override
     public String value() {
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets the length of every string that can be generated within the specified constraints, if they are all the
+     * same length, e.g. with <code>length(10)</code> or a pattern such as <code>[A-Z]{3}-[0-9]{4}</code>.
+     * @return The length, or nothing if generated strings can vary in length.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public OptionalInt fixedLength() {
+        StringPatternPlan plan = ((StringGenerator) compiled()).plan;
+        return plan.minLength() == plan.maxLength() && plan.maxLength() <= Integer.MAX_VALUE
+                ? OptionalInt.of((int) plan.maxLength())
+                : OptionalInt.empty();
+    }
+
+    /**
+     * Gets the number of different strings that can be generated within the specified constraints. Every one of them
+     * has an index, from zero to one less than this number, so that a large space of strings can be split into ranges
+     * of indexes and each range generated separately with {@link #stringAt(long)}, with no coordination at all. The
+     * strings are in the order of the choices made from the start of the pattern, shorter lengths before longer ones
+     * and characters in ascending order, e.g. the pattern <code>[a-z]{2}[0-9]{4}</code> has 6,760,000 strings from
+     * <code>aa0000</code> to <code>zz9999</code>. If different choices in a pattern can produce the same string, as in
+     * <code>a?a?</code>, each of them is counted.
+     * @return The number of strings.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public BigInteger cardinality() {
+        return ((StringGenerator) compiled()).plan.cardinality();
+    }
+
+    /**
+     * Gets the string with a given index, as defined by {@link #cardinality()}. The string is not logged.
+     * @param index The index of the string.
+     * @return The string.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the number of strings.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public String stringAt(long index) {
+        return ((StringGenerator) compiled()).plan.stringAt(index);
+    }
+
+    /**
+     * Gets the string with a given index, as defined by {@link #cardinality()}. The string is not logged.
+     * @param index The index of the string.
+     * @return The string.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the number of strings.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public String stringAt(BigInteger index) {
+        return ((StringGenerator) compiled()).plan.stringAt(index);
+    }
+
+    /**
+     * Gets the index of a string, as defined by {@link #cardinality()}, so that <code>stringAt(indexOf(s))</code> is
+     * <code>s</code>. If different choices in the pattern can produce the string, this is the lowest of their indexes.
+     * @param string The string.
+     * @return The index of the string, or -1 if it cannot be generated within the specified constraints.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public BigInteger indexOf(String string) {
+        return ((StringGenerator) compiled()).plan.indexOf(string);
+    }
+
+    /**
+     * Writes a generated random string, within any specified constraints, into a character array without creating a
+     * <code>String</code>. The string is not logged.
+     * @param destination The array to write the string into.
+     * @param offset The index in the array of the first character of the string.
+     * @return The length of the string that was written.
+     * @throws IllegalArgumentException The string might not fit in the array at the given offset, or the specified
+     * combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public int writeTo(char[] destination, int offset) {
+        StringGenerator generator = (StringGenerator) compiled();
+        long end = offset + generator.plan.maxLength();
+        checkFillRange(destination.length, offset, (int) Math.min(end, Integer.MAX_VALUE));
+        return generator.writeTo(destination, offset);
+    }
+
+    /**
+     * Writes a generated random string, within any specified constraints, to an <code>Appendable</code>. The string
+     * is generated and appended in fixed-size chunks, so however long it is, it is never held in memory as a whole.
+     * With the same seed, the characters written are the same as the string {@link #value()} would have returned. The
+     * string is not logged.
+     * @param out Where to write the string.
+     * @return The number of characters written.
+     * @throws IOException The <code>Appendable</code> could not be written to.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public long writeTo(Appendable out) throws IOException {
+        return ((StringGenerator) compiled()).writeTo(CharacterSink.to(out));
+    }
+
+    /**
+     * Writes a generated random string, within any specified constraints, to a <code>Writer</code>, in fixed-size
+     * chunks so that it is never held in memory as a whole. The writer is neither flushed nor closed. With the same
+     * seed, the characters written are the same as the string {@link #value()} would have returned. The string is not
+     * logged.
+     * @param out Where to write the string.
+     * @return The number of characters written.
+     * @throws IOException The writer could not be written to.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public long writeTo(Writer out) throws IOException {
+        return ((StringGenerator) compiled()).writeTo(CharacterSink.to(out));
+    }
+
+    /**
+     * Writes a generated random string, within any specified constraints, to a channel, encoded in the given charset.
+     * The string is generated and encoded in fixed-size chunks, so memory use is constant however long it is.
+     * Characters that the charset cannot encode, such as unpaired surrogates, are written as the charset's replacement
+     * bytes. The channel is not closed, and the string is not logged.
+     * @param out Where to write the string.
+     * @param charset The charset to encode the string in.
+     * @return The number of bytes written.
+     * @throws IOException The channel could not be written to.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    public long writeTo(WritableByteChannel out, Charset charset) throws IOException {
+        CharacterSink.ChannelSink sink = CharacterSink.to(out, charset);
+        ((StringGenerator) compiled()).writeTo(sink);
+        return sink.bytesWritten();
+    }
+
+    /**
+     * Fills an array with random characters between {@link #minChar} and {@link #maxChar}. The length constraints do
+     * not apply, and a pattern may not be specified. Like values obtained directly from a generator, the characters
+     * are not logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException A pattern was specified, or the minimum character was greater than the maximum.
+     */
+    public char[] fill(char[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random characters between {@link #minChar} and {@link #maxChar}. The length
+     * constraints do not apply, and a pattern may not be specified. Like values obtained directly from a generator, the
+     * characters are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, a pattern was specified, or the minimum
+     * character was greater than the maximum.
+     */
+    public char[] fill(char[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        characterGenerator().fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Fills the remaining characters of a buffer, from its position to its limit, with random characters between
+     * {@link #minChar} and {@link #maxChar}, leaving its position at its limit. The length constraints do not apply,
+     * and a pattern may not be specified. Like values obtained directly from a generator, the characters are not
+     * logged.
+     * @param buffer The buffer to fill.
+     * @return The same buffer.
+     * @throws IllegalArgumentException A pattern was specified, or the minimum character was greater than the maximum.
+     * @throws java.nio.ReadOnlyBufferException The buffer is read-only.
+     */
+    public CharBuffer fill(CharBuffer buffer) {
+        CharacterGenerator generator = characterGenerator();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            generator.fill(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+            buffer.position(buffer.limit());
+        } else {
+            while (buffer.hasRemaining())
+                buffer.put(generator.nextChar());
+        }
+        return buffer;
+    }
+
+    // The fill methods draw each character as a value of its own, from a generator that, like the compiled one, is
+    // kept until the constraints change.
+    private CharacterGenerator characterGenerator() {
+        CharacterGenerator generator = characterGenerator;
+        if (generator == null) {
+            check(() -> pattern != null, PATTERN_CANNOT_FILL_CHARACTERS);
+            check(() -> minChar != null && maxChar != null && minChar > maxChar, MINCHAR_MUST_BE_LESS_THAN_MAXCHAR);
+            checkCharacters();
+            characterGenerator = generator = new CharacterGenerator(this, alphabet());
+        }
+        return generator;
+    }
+
+    @Override
+    protected void constraintsChanged() {
+        super.constraintsChanged();
+        characterGenerator = null;
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random strings within them. The pattern, if there is one,
+     * is parsed here rather than for each value.
+     * @return The generator.
+     * @throws IllegalArgumentException The specified combination of constraints was invalid.
+     * @throws com.github.richardjwild.randomizer.types.pattern.StringPatternParserException The specified pattern could
+     * not be parsed.
+     */
+    @Override
+    public Generator<String> compile() {
         validateConstraints();
-        String value = randomString();
-        LOGGER.info("Random String: " + value);
-        return value;
+        return unique ? new UniqueStringGenerator(this, plan()) : new StringGenerator(this, plan());
     }
 
     private void validateConstraints() {
@@ -78,59 +310,40 @@ public class StringRandomizer extends Randomizer<String> {
                 MINLENGTH_MUST_BE_LESS_THAN_MAXLENGTH);
         check(() -> minChar != null && maxChar != null && minChar > maxChar,
                 MINCHAR_MUST_BE_LESS_THAN_MAXCHAR);
+        checkCharacters();
     }
 
-    private boolean anyOtherConstraintSpecified() {
-        return minLength != null || maxLength != null || length != null || minChar != null || maxChar != null;
+    private void checkCharacters() {
+        check(() -> characters != null && (minChar != null || maxChar != null),
+                CHARACTERS_AND_MINCHAR_OR_MAXCHAR);
+        check(() -> characters != null && characters.size() == 0,
+                EMPTY_CHARACTER_CLASS);
     }
 
-    private String randomString() {
-        return patternElements().stream()
-                .map(this::buildStringElement)
-                .collect(Collectors.joining());
+    private boolean anyOtherConstraintSpecified() {
+        return minLength != null || maxLength != null || length != null || minChar != null || maxChar != null
+                || characters != null;
     }
 
-    private List<StringPatternElement> patternElements() {
+    private StringPatternPlan plan() {
         return ofNullable(pattern)
-                .map(StringPatternParser::new)
-                .map(StringPatternParser::parseAndCreatePatternElements)
-                .orElseGet(this::createSinglePatternElement);
+                .map(sharedInstance()::plan)
+                .orElseGet(this::createSingleElementPlan);
     }
 
-    private List<StringPatternElement> createSinglePatternElement() {
-        return singletonList(new StringPatternElement(length, minLength, maxLength,
-                allCharactersBetween(minChar, maxChar)));
+    private StringPatternPlan createSingleElementPlan() {
+        return StringPatternPlan.compile(singletonList(new StringPatternElement(length, minLength, maxLength,
+                alphabet())));
     }
 
-    private List<Character> allCharactersBetween(Character minChar, Character maxChar) {
-        char min = ofNullable(minChar).orElse(' ');
-        char max = ofNullable(maxChar).orElse(Character.MAX_VALUE);
-        return Characters.from(min).limit(max - min).collect(toList());
+    private Alphabet alphabet() {
+        return characters != null ? characters : allCharactersBetween(minChar, maxChar);
     }
 
-    private String buildStringElement(StringPatternElement element) {
-        StringBuilder builder = new StringBuilder();
-        int length = elementLength(element);
-        for (int c = 0; c < length; c++)
-            builder.append(randomCharacterFrom(element.permissibleCharacters()));
-        return builder.toString();
-    }
-
-    private int elementLength(StringPatternElement pe) {
-        return pe.length().orElseGet(() -> randomLength(pe));
-    }
-
-    private int randomLength(StringPatternElement pe) {
-        return randomInt(pe.minLength().orElse(1), pe.maxLength());
-    }
-
-    private char randomCharacterFrom(List<Character> permissibleCharacters) {
-        int index = randomInt(0, permissibleCharacters.size());
-        return permissibleCharacters.get(index);
-    }
-
-    private int randomInt(int min, int max) {
-        return random.nextInt(max - min) + min;
+    private Alphabet allCharactersBetween(Character minChar, Character maxChar) {
+        char min = ofNullable(minChar).orElse(' ');
+        char max = ofNullable(maxChar).orElse(Character.MAX_VALUE);
+        return Alphabet.range(min, max);
     }
 
     /**
@@ -142,6 +355,7 @@ public class StringRandomizer extends Randomizer<String> {
     @Override
     public StringRandomizer length(int length) {
         this.length = length;
+        constraintsChanged();
         return this;
     }
 
@@ -154,6 +368,7 @@ public class StringRandomizer extends Randomizer<String> {
     @Override
     public StringRandomizer maxLength(int maxLength) {
         this.maxLength = maxLength;
+        constraintsChanged();
         return this;
     }
 
@@ -166,6 +381,7 @@ public class StringRandomizer extends Randomizer<String> {
     @Override
     public StringRandomizer minLength(int minLength) {
         this.minLength = minLength;
+        constraintsChanged();
         return this;
     }
 
@@ -178,6 +394,7 @@ public class StringRandomizer extends Randomizer<String> {
     @Override
     public StringRandomizer minChar(char minChar) {
         this.minChar = minChar;
+        constraintsChanged();
         return this;
     }
 
@@ -189,6 +406,21 @@ public class StringRandomizer extends Randomizer<String> {
     @Override
     public StringRandomizer maxChar(char maxChar) {
         this.maxChar = maxChar;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the characters that the generated random value is made of, in place of {@link #minChar} and
+     * {@link #maxChar}. If the characters were given weights, each is drawn in proportion to its weight, e.g.
+     * <code>new StringRandomizer().length(20).characters(new Alphabet.Builder().addRange('a', 'z', 2).add(' ', 7)
+     * .add('e', 25).build())</code>
+     * @param characters The characters that will appear in the generated string.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public StringRandomizer characters(Alphabet characters) {
+        this.characters = characters;
+        constraintsChanged();
         return this;
     }
 
@@ -207,13 +439,157 @@ public class StringRandomizer extends Randomizer<String> {
      * <code>[a\-c]{10}</code> will produce a string of length 10 randomly constructed from a, - and c characters.<p>
      * <code>[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}.com</code> will produce a string consisting of 5-10 random alpha
      * characters followed by 2 random digits, then an '@' symbol, then 5-10 random random lowercase letters, followed
-     * by the literal string ".com". In other words, a random string that resembles an email address.
+     * by the literal string ".com". In other words, a random string that resembles an email address.<p>
+     * <code>[^a-z]{3}</code> will produce three random characters that are not lowercase letters.<p>
+     * <code>\d{3}\w{2}\s</code> will produce three random digits, two random letters, digits or underscores, then a
+     * whitespace character, as in a regular expression.<p>
+     * <code>(Mr|Mrs|Dr) [A-Z]{1}[a-z]{2,9}</code> will produce a title, chosen randomly from Mr, Mrs and Dr,
+     * followed by a space and a capitalised name.<p>
+     * <code>[0-9]{5}(-[0-9]{4})?</code> will produce a five digit zip code, with or without the four digit suffix.
+     * <code>?</code> makes the element before it optional, <code>{n}</code> and <code>{n,m}</code> repeat it, and
+     * <code>*</code> and <code>+</code> repeat it up to 16 times. They can follow a literal character, a character
+     * class or a group. Every string generated follows the pattern, so none has to be thrown away.<p>
+     * <code>[a-z{1}e{12}t{9}]{10}</code> will produce ten random lowercase letters, with 'e' twelve times and 't' nine
+     * times as likely as any other. A number in braces after a character, a range or a shorthand class inside a
+     * character class weights each of its characters; where they overlap, the last weight applies, and characters of
+     * weight zero are left out. Escape the opening brace, as in <code>[a\{2}]</code>, for braces that are literal
+     * characters of the class.
      * @param pattern The pattern for the randomized string to adhere to
      * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
      */
     @Override
     public StringRandomizer pattern(String pattern) {
         this.pattern = pattern;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Makes every value generated from now on different from every other, whatever the other constraints are, e.g.
+     * <code>new StringRandomizer().pattern("[A-Z]{3}[0-9]{6}").unique()</code> for primary keys. The values are the
+     * strings of a pseudo-random permutation of every string that the constraints allow, so none is generated twice
+     * and there is no set of values already generated, however many there are. Once every string has been generated,
+     * an <code>IllegalStateException</code> is thrown. The permutation is derived from this randomizer's seed, so a
+     * seeded randomizer generates the same unique values in the same order every time, and every generator compiled
+     * from it walks the same permutation, taking the next position in it for each value. A sharded randomizer takes
+     * the positions of its shard, so the shards of a sequence generate different values, which together are exactly
+     * the values of a randomizer with <code>shard(0, 1)</code>.<p>
+     * Values are only guaranteed to be unique if no two different choices in the pattern produce the same string,
+     * which they do in a pattern such as <code>a?a?</code> or <code>(ab|a)b?</code>. If there are more than
+     * 2<sup>62</sup> possible strings, the values are taken from evenly spaced strings across all of them, but a pattern
+     * with too many strings even to count, such as <code>[a-z]{1,2147483647}</code>, is rejected. Changing
+     * the constraints, the seed or the engine starts the permutation again from its first position.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public StringRandomizer unique() {
+        this.unique = true;
+        constraintsChanged();
         return this;
     }
+
+    private static class StringGenerator extends Generator<String> {
+
+        final StringPatternPlan plan;
+
+        private StringGenerator(Randomizer<?> randomizer, StringPatternPlan plan) {
+            super(randomizer);
+            this.plan = plan;
+        }
+
+        @Override
+        protected String generate(RandomEngine random) {
+            return plan.generate(random);
+        }
+
+        int writeTo(char[] destination, int offset) {
+            return plan.write(engine(), destination, offset);
+        }
+
+        long writeTo(CharacterSink sink) throws IOException {
+            long written = plan.write(engine(), new char[CHUNK_SIZE], sink);
+            sink.finish();
+            return written;
+        }
+    }
+
+    private static class CharacterGenerator extends Generator<Character> {
+
+        private final Alphabet alphabet;
+
+        private CharacterGenerator(Randomizer<?> randomizer, Alphabet alphabet) {
+            super(randomizer);
+            this.alphabet = alphabet;
+        }
+
+        @Override
+        protected Character generate(RandomEngine random) {
+            return alphabet.next(random);
+        }
+
+        private char nextChar() {
+            return alphabet.next(engine());
+        }
+
+        private void fill(char[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = alphabet.next(engine());
+        }
+    }
+
+    /**
+     * Generates the strings of a plan in the order of a keyed permutation of their indexes, taking the next position
+     * in the permutation for each value. The keys are drawn from an engine of their own, seeded from the randomizer's
+     * seed on a stream that no thread or position of the randomizer uses. When there are too many strings for the
+     * permutation, every <code>stride</code>th string is used.
+     */
+    private static class UniqueStringGenerator extends StringGenerator {
+
+        private static final long KEY_STREAM = -1;
+
+        private final KeyedPermutation permutation;
+        private final BigInteger stride;
+
+        private UniqueStringGenerator(Randomizer<?> randomizer, StringPatternPlan plan) {
+            super(randomizer, plan);
+            BigInteger cardinality = plan.cardinality();
+            BigInteger maxSize = BigInteger.valueOf(KeyedPermutation.MAX_SIZE);
+            long size = cardinality.min(maxSize).longValue();
+            this.permutation = new KeyedPermutation(size, XOROSHIRO.create(Seeds.derive(seed(), KEY_STREAM)));
+            this.stride = cardinality.divide(BigInteger.valueOf(size));
+        }
+
+        @Override
+        protected String generate(RandomEngine random) {
+            long index = nextIndex();
+            return stride.equals(BigInteger.ONE)
+                    ? plan.stringAt(index)
+                    : plan.stringAt(BigInteger.valueOf(index).multiply(stride));
+        }
+
+        @Override
+        int writeTo(char[] destination, int offset) {
+            long index = nextIndex();
+            return stride.equals(BigInteger.ONE)
+                    ? plan.write(index, destination, offset)
+                    : plan.write(BigInteger.valueOf(index).multiply(stride), destination, offset);
+        }
+
+        @Override
+        long writeTo(CharacterSink sink) throws IOException {
+            long index = nextIndex();
+            long written = stride.equals(BigInteger.ONE)
+                    ? plan.write(index, new char[CHUNK_SIZE], sink)
+                    : plan.write(BigInteger.valueOf(index).multiply(stride), new char[CHUNK_SIZE], sink);
+            sink.finish();
+            return written;
+        }
+
+        private long nextIndex() {
+            long next = nextPosition();
+            if (next >= permutation.size())
+                throw new IllegalStateException(
+                        getMessage(UNIQUE_VALUES_EXHAUSTED, Long.toString(permutation.size())));
+            return permutation.apply(next);
+        }
+    }
 }
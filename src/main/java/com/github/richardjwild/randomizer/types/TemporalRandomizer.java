@@ -0,0 +1,317 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Generator;
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import static com.github.richardjwild.randomizer.localization.Messages.BOUND_OUT_OF_RANGE_FOR_GRANULARITY;
+import static com.github.richardjwild.randomizer.localization.Messages.MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX;
+import static com.github.richardjwild.randomizer.localization.Messages.NO_VALUE_AT_GRANULARITY;
+import static com.github.richardjwild.randomizer.localization.Messages.UNSUPPORTED_GRANULARITY;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * The base class of the randomizers of <code>java.time</code> types. Every value is a whole number of units of the
+ * granularity, which is one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#SECONDS}, {@link ChronoUnit#MILLIS} and
+ * {@link ChronoUnit#NANOS}, since the epoch of 1970-01-01T00:00:00Z, or for durations since zero. That number is drawn
+ * exactly and uniformly between the bounds, which are rounded inwards to the granularity, and only then converted to the
+ * value. {@link #epochValue()}, {@link #epochSupplier()} and {@link #fill(long[])} give the number itself, without
+ * creating any objects, and {@link #fromEpochValue(long)} converts it to a value when it is needed.<p>
+ * This class implements the builder pattern to allow boundaries (constraints) to be specified on the generated random
+ * value. These constraints are: <code>max</code>, <code>min</code> and <code>granularity</code>. If any other
+ * constraint method is called on this class an <code>UnsupportedOperationException</code> will be thrown.
+ * @param <T> The type of the generated values.
+ */
+public abstract class TemporalRandomizer<T extends Comparable<? super T>> extends Randomizer<T> {
+
+    private static final Set<ChronoUnit> GRANULARITIES =
+            EnumSet.of(ChronoUnit.DAYS, ChronoUnit.SECONDS, ChronoUnit.MILLIS, ChronoUnit.NANOS);
+
+    private T minimum, maximum;
+    private ChronoUnit granularity;
+
+    /**
+     * Creates a randomizer with default constraints.
+     * @param minimum The default minimum.
+     * @param maximum The default maximum.
+     * @param granularity The default granularity.
+     */
+    protected TemporalRandomizer(T minimum, T maximum, ChronoUnit granularity) {
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.granularity = granularity;
+    }
+
+    /**
+     * Gets the generated random value, within any specified constraints.
+     * @return The generated random value.
+     */
+    @Override
+    public T value() {
+        return logged(compiled().next());
+    }
+
+    /**
+     * Gets a generated random value, within any specified constraints, as a number of units of the granularity since
+     * the epoch.
+     * @return The generated random number.
+     * @throws IllegalArgumentException The constraints were invalid.
+     */
+    public long epochValue() {
+        return logged(((TemporalGenerator<T>) compiled()).nextEpochValue());
+    }
+
+    /**
+     * Gets a supplier of random values within the specified constraints, as numbers of units of the granularity since
+     * the epoch. The supplier does not box the values it generates, and like any compiled generator it can be shared
+     * between threads.
+     * @return The supplier.
+     * @throws IllegalArgumentException The constraints were invalid.
+     */
+    public LongSupplier epochSupplier() {
+        return (TemporalGenerator<T>) compiled();
+    }
+
+    /**
+     * Fills an array with random values within the specified constraints, as numbers of units of the granularity since
+     * the epoch, without creating any objects. Like values obtained directly from a generator, the values are not
+     * logged.
+     * @param array The array to fill.
+     * @return The same array.
+     * @throws IllegalArgumentException The constraints were invalid.
+     */
+    public long[] fill(long[] array) {
+        return fill(array, 0, array.length);
+    }
+
+    /**
+     * Fills part of an array with random values within the specified constraints, as numbers of units of the
+     * granularity since the epoch, without creating any objects. Like values obtained directly from a generator, the
+     * values are not logged.
+     * @param array The array to fill.
+     * @param from The index of the first element to fill, inclusive.
+     * @param to The index of the last element to fill, exclusive.
+     * @return The same array.
+     * @throws IllegalArgumentException The range was not within the array, or the constraints were invalid.
+     */
+    public long[] fill(long[] array, int from, int to) {
+        checkFillRange(array.length, from, to);
+        ((TemporalGenerator<T>) compiled()).fill(array, from, to);
+        return array;
+    }
+
+    /**
+     * Converts a number of units of the granularity since the epoch, such as one generated by {@link #fill(long[])},
+     * to a value.
+     * @param epochValue The number of units of the granularity since the epoch.
+     * @return The value.
+     * @throws IllegalArgumentException The constraints were invalid.
+     */
+    public T fromEpochValue(long epochValue) {
+        return ((TemporalGenerator<T>) compiled()).create(epochValue);
+    }
+
+    /**
+     * Validates the constraints and creates a generator of random values within them.
+     * @return The generator.
+     * @throws IllegalArgumentException The granularity was not supported, the minimum was greater than the maximum,
+     * no value of the granularity lay between them, or a bound was too far from the epoch to be counted in units of the
+     * granularity.
+     */
+    @Override
+    public Generator<T> compile() {
+        Set<ChronoUnit> granularities = supportedGranularities();
+        check(() -> !granularities.contains(granularity), UNSUPPORTED_GRANULARITY,
+                String.valueOf(granularity), granularities.toString());
+        check(() -> minimum.compareTo(maximum) > 0, MIN_MUST_BE_LESS_THAN_OR_EQUAL_TO_MAX);
+        Units units = new Units(granularity);
+        long low = toEpochValue(units, minimum, true);
+        long high = toEpochValue(units, maximum, false);
+        check(() -> low > high, NO_VALUE_AT_GRANULARITY, granularity.toString());
+        return new TemporalGenerator<>(this, low, high, units, factory());
+    }
+
+    private long toEpochValue(Units units, T value, boolean roundUp) {
+        try {
+            return units.toEpochValue(epochSecond(value), nano(value), roundUp);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(getMessage(BOUND_OUT_OF_RANGE_FOR_GRANULARITY, String.valueOf(value),
+                    granularity.toString()));
+        }
+    }
+
+    /**
+     * Sets the maximum boundary for the generated random value. The maximum is inclusive, i.e. the generated value may
+     * be less than or equal to the maximum boundary.
+     * @param maxValue The maximum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public TemporalRandomizer<T> max(T maxValue) {
+        this.maximum = maxValue;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the minimum boundary for the generated random value. The minimum is inclusive, i.e. the generated value may
+     * be greater than or equal to the minimum boundary.
+     * @param minValue The minimum bound for the generated random value.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    @Override
+    public TemporalRandomizer<T> min(T minValue) {
+        this.minimum = minValue;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Sets the granularity of the generated random value: every value is a whole number of these units since the
+     * epoch.
+     * @param granularity One of {@link ChronoUnit#DAYS}, {@link ChronoUnit#SECONDS}, {@link ChronoUnit#MILLIS} and
+     * {@link ChronoUnit#NANOS}, if the type supports it.
+     * @return A reference to the <code>Randomizer</code> instance so that method calls can be chained.
+     */
+    public TemporalRandomizer<T> granularity(ChronoUnit granularity) {
+        this.granularity = granularity;
+        constraintsChanged();
+        return this;
+    }
+
+    /**
+     * Gets the granularities that the type supports.
+     * @return The granularities.
+     */
+    protected Set<ChronoUnit> supportedGranularities() {
+        return GRANULARITIES;
+    }
+
+    /**
+     * Gets the number of whole seconds from the epoch to a value, rounded down.
+     * @param value The value.
+     * @return The number of seconds.
+     */
+    protected abstract long epochSecond(T value);
+
+    /**
+     * Gets the number of nanoseconds from the last whole second since the epoch to a value.
+     * @param value The value.
+     * @return The number of nanoseconds, from 0 to 999,999,999.
+     */
+    protected abstract int nano(T value);
+
+    /**
+     * Gets a factory of values from the numbers of seconds and nanoseconds since the epoch, which a generator uses
+     * with the constraints in force when it was compiled.
+     * @return The factory.
+     */
+    protected abstract Factory<T> factory();
+
+    /**
+     * Creates values from numbers of seconds and nanoseconds since the epoch.
+     * @param <T> The type of the values.
+     */
+    @FunctionalInterface
+    protected interface Factory<T> {
+
+        /**
+         * Creates a value.
+         * @param epochSecond The number of whole seconds since the epoch.
+         * @param nano The number of nanoseconds since the last whole second, from 0 to 999,999,999.
+         * @return The value.
+         */
+        T create(long epochSecond, long nano);
+    }
+
+    private static final class Units {
+
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+        private final long secondsPerUnit, unitsPerSecond, nanosPerUnit;
+
+        private Units(ChronoUnit granularity) {
+            long nanos = granularity.getDuration().toNanos();
+            this.secondsPerUnit = Math.max(1, nanos / NANOS_PER_SECOND);
+            this.unitsPerSecond = Math.max(1, NANOS_PER_SECOND / nanos);
+            this.nanosPerUnit = Math.min(nanos, NANOS_PER_SECOND);
+        }
+
+        private long toEpochValue(long epochSecond, int nano, boolean roundUp) {
+            if (secondsPerUnit > 1) {
+                long units = Math.floorDiv(epochSecond, secondsPerUnit);
+                boolean exact = nano == 0 && Math.floorMod(epochSecond, secondsPerUnit) == 0;
+                return roundUp && !exact ? units + 1 : units;
+            }
+            long units = Math.addExact(Math.multiplyExact(epochSecond, unitsPerSecond), nano / nanosPerUnit);
+            return roundUp && nano % nanosPerUnit != 0 ? Math.addExact(units, 1) : units;
+        }
+
+        private <T> T create(Factory<T> factory, long epochValue) {
+            if (secondsPerUnit > 1)
+                return factory.create(epochValue * secondsPerUnit, 0);
+            return factory.create(Math.floorDiv(epochValue, unitsPerSecond),
+                    Math.floorMod(epochValue, unitsPerSecond) * nanosPerUnit);
+        }
+    }
+
+    private static class TemporalGenerator<T> extends Generator<T> implements LongSupplier {
+
+        private final long minimum, maximum, range;
+        private final Units units;
+        private final Factory<T> factory;
+
+        private TemporalGenerator(Randomizer<?> randomizer, long minimum, long maximum, Units units,
+                                  Factory<T> factory) {
+            super(randomizer);
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.range = maximum - minimum + 1;
+            this.units = units;
+            this.factory = factory;
+        }
+
+        @Override
+        protected T generate(RandomEngine random) {
+            return create(nextEpochValue(random));
+        }
+
+        private T create(long epochValue) {
+            return units.create(factory, epochValue);
+        }
+
+        private long nextEpochValue() {
+            return nextEpochValue(engine());
+        }
+
+        // As for LongRandomizer, the range overflows to zero when it spans every long value, and to a negative number
+        // when it spans more than half of them.
+        private long nextEpochValue(RandomEngine random) {
+            if (range > 0)
+                return random.nextLong(range) + minimum;
+            if (range == 0)
+                return random.nextLong();
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value < minimum || value > maximum);
+            return value;
+        }
+
+        private void fill(long[] array, int from, int to) {
+            for (int i = from; i < to; i++)
+                array[i] = nextEpochValue(engine());
+        }
+
+        @Override
+        public long getAsLong() {
+            return nextEpochValue();
+        }
+    }
+}
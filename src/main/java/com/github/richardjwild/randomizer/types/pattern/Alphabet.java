@@ -0,0 +1,379 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import com.github.richardjwild.randomizer.distribution.AliasTable;
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static com.github.richardjwild.randomizer.localization.Messages.INVALID_CHARACTER_WEIGHT;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * An immutable set of characters, held as a sorted list of disjoint, inclusive character ranges. The characters are
+ * never materialised one by one unless the alphabet is small and made up of several ranges, so the cost of picking a
+ * character by index does not depend on the size of the alphabet.<p>
+ * Characters are drawn uniformly unless they were given weights. A weighted alphabet is split into runs of adjacent
+ * characters of equal weight, and a draw picks a run from an alias table and then a character within it uniformly, so
+ * it also takes constant time however many characters and weights there are.
+ */
+public class Alphabet {
+
+    private static final int MATERIALISE_LIMIT = 4096;
+
+    /**
+     * Creates an alphabet of all characters between two characters, inclusive.
+     * @param first The first character in the range.
+     * @param last The last character in the range.
+     * @return The alphabet.
+     */
+    public static Alphabet range(char first, char last) {
+        return new Builder().addRange(first, last).build();
+    }
+
+    /**
+     * Creates an alphabet of the specified characters. Repeated characters are only included once.
+     * @param characters The characters in the alphabet.
+     * @return The alphabet.
+     */
+    public static Alphabet of(char... characters) {
+        Builder builder = new Builder();
+        for (char c : characters)
+            builder.add(c);
+        return builder.build();
+    }
+
+    private final char[] firsts, lasts;
+    private final int[] offsets;
+    private final int size;
+    private final char[] characters;
+    private final Weights weights;
+
+    private Alphabet(char[] firsts, char[] lasts, Weights weights) {
+        this.firsts = firsts;
+        this.lasts = lasts;
+        this.weights = weights;
+        this.offsets = new int[firsts.length];
+        int count = 0;
+        for (int i = 0; i < firsts.length; i++) {
+            offsets[i] = count;
+            count += lasts[i] - firsts[i] + 1;
+        }
+        this.size = count;
+        this.characters = (firsts.length > 1 && size <= MATERIALISE_LIMIT) ? materialise() : null;
+    }
+
+    private char[] materialise() {
+        char[] all = new char[size];
+        for (int i = 0; i < size; i++)
+            all[i] = charAtInRanges(i);
+        return all;
+    }
+
+    /**
+     * Gets the number of characters in the alphabet.
+     * @return The number of characters.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the character at the specified position in the alphabet, in ascending character order.
+     * @param index The position of the character, from zero to <code>size() - 1</code>.
+     * @return The character at that position.
+     */
+    public char charAt(int index) {
+        if (characters != null)
+            return characters[index];
+        if (firsts.length == 1)
+            return (char) (firsts[0] + index);
+        return charAtInRanges(index);
+    }
+
+    private char charAtInRanges(int index) {
+        int range = Arrays.binarySearch(offsets, index);
+        if (range < 0)
+            range = -range - 2;
+        return (char) (firsts[range] + index - offsets[range]);
+    }
+
+    /**
+     * Draws a character from the alphabet, in proportion to its weight if the characters were given weights and
+     * uniformly otherwise.
+     * @param random The source of random bits.
+     * @return The character.
+     */
+    public char next(RandomEngine random) {
+        return weights != null ? weights.next(random) : charAt(random.nextInt(size));
+    }
+
+    /**
+     * Determines whether the characters of the alphabet were given different weights.
+     * @return <code>true</code> if the characters are not drawn uniformly.
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Gets the weight of a character, relative to the weights of the other characters in the alphabet.
+     * @param c The character.
+     * @return The weight of the character, which is 1 for every character of an alphabet that is not weighted, or 0 if
+     * the character is not in the alphabet.
+     */
+    public double weightOf(char c) {
+        if (!contains(c))
+            return 0;
+        return weights != null ? weights.weightOf(c) : 1;
+    }
+
+    /**
+     * Gets the position of a character in the alphabet, in ascending character order.
+     * @param c The character.
+     * @return The position of the character, or -1 if it is not in the alphabet.
+     */
+    public int indexOf(char c) {
+        if (characters == null && firsts.length == 1)
+            return (c >= firsts[0] && c <= lasts[0]) ? c - firsts[0] : -1;
+        int range = rangeContaining(c);
+        return range < 0 ? -1 : offsets[range] + c - firsts[range];
+    }
+
+    /**
+     * Determines whether a character is in the alphabet.
+     * @param c The character.
+     * @return <code>true</code> if the character is in the alphabet.
+     */
+    public boolean contains(char c) {
+        return rangeContaining(c) >= 0;
+    }
+
+    private int rangeContaining(char c) {
+        int range = Arrays.binarySearch(firsts, c);
+        if (range >= 0)
+            return range;
+        range = -range - 2;
+        return (range >= 0 && c <= lasts[range]) ? range : -1;
+    }
+
+    /**
+     * Creates an alphabet of all the characters between two characters, inclusive, that are not in this alphabet.
+     * @param first The first character that the new alphabet may contain.
+     * @param last The last character that the new alphabet may contain.
+     * @return The alphabet, which may be empty.
+     */
+    public Alphabet complement(char first, char last) {
+        Builder builder = new Builder();
+        int next = first;
+        for (int i = 0; i < firsts.length && firsts[i] <= last; i++) {
+            if (firsts[i] > next)
+                builder.addRange((char) next, (char) (firsts[i] - 1));
+            next = Math.max(next, lasts[i] + 1);
+        }
+        if (next <= last)
+            builder.addRange((char) next, last);
+        return builder.build();
+    }
+
+    /**
+     * Gets the number of disjoint character ranges that make up the alphabet.
+     * @return The number of ranges.
+     */
+    public int rangeCount() {
+        return firsts.length;
+    }
+
+    /**
+     * Gets the first character of one of the ranges that make up the alphabet.
+     * @param range The position of the range, from zero to <code>rangeCount() - 1</code>.
+     * @return The first character in the range.
+     */
+    public char rangeFirst(int range) {
+        return firsts[range];
+    }
+
+    /**
+     * Gets the last character of one of the ranges that make up the alphabet.
+     * @param range The position of the range, from zero to <code>rangeCount() - 1</code>.
+     * @return The last character in the range, inclusive.
+     */
+    public char rangeLast(int range) {
+        return lasts[range];
+    }
+
+    /**
+     * Builds an {@link Alphabet} from any number of possibly overlapping characters and character ranges. Each may be
+     * given a weight, which applies to every character it adds; characters added without one have a weight of 1. Where
+     * they overlap, the character or range added last decides the weight, and characters whose weight is zero are left
+     * out. For example, <code>new Alphabet.Builder().addRange('a', 'z').add('e', 12).add('q', 0).build()</code> draws
+     * 'e' twelve times as often as any other letter, and never draws 'q'.
+     */
+    public static class Builder {
+
+        private final List<char[]> ranges = new ArrayList<>();
+        private final List<Double> rangeWeights = new ArrayList<>();
+
+        public Builder add(char c) {
+            return addRange(c, c);
+        }
+
+        /**
+         * Adds a character with a weight.
+         * @param c The character.
+         * @param weight The weight of the character, which must be finite and not negative.
+         * @return A reference to the builder so that method calls can be chained.
+         * @throws IllegalArgumentException The weight was negative or not finite.
+         */
+        public Builder add(char c, double weight) {
+            return addRange(c, c, weight);
+        }
+
+        /**
+         * Adds all characters between two characters, inclusive. The characters may be given in either order.
+         * @param from One end of the range.
+         * @param to The other end of the range.
+         * @return A reference to the builder so that method calls can be chained.
+         */
+        public Builder addRange(char from, char to) {
+            return addRange(from, to, 1);
+        }
+
+        /**
+         * Adds all characters between two characters, inclusive, with the same weight. The characters may be given in
+         * either order.
+         * @param from One end of the range.
+         * @param to The other end of the range.
+         * @param weight The weight of each character in the range, which must be finite and not negative.
+         * @return A reference to the builder so that method calls can be chained.
+         * @throws IllegalArgumentException The weight was negative or not finite.
+         */
+        public Builder addRange(char from, char to, double weight) {
+            check(() -> !(weight >= 0) || Double.isInfinite(weight), INVALID_CHARACTER_WEIGHT, String.valueOf(weight));
+            ranges.add(from <= to ? new char[]{from, to} : new char[]{to, from});
+            rangeWeights.add(weight);
+            return this;
+        }
+
+        public Builder addAll(Alphabet alphabet) {
+            if (alphabet.weights != null)
+                return alphabet.weights.addTo(this);
+            for (int i = 0; i < alphabet.rangeCount(); i++)
+                addRange(alphabet.rangeFirst(i), alphabet.rangeLast(i));
+            return this;
+        }
+
+        /**
+         * Adds all characters of another alphabet with the same weight, whatever weights they had there.
+         * @param alphabet The alphabet.
+         * @param weight The weight of each character, which must be finite and not negative.
+         * @return A reference to the builder so that method calls can be chained.
+         * @throws IllegalArgumentException The weight was negative or not finite.
+         */
+        public Builder addAll(Alphabet alphabet, double weight) {
+            for (int i = 0; i < alphabet.rangeCount(); i++)
+                addRange(alphabet.rangeFirst(i), alphabet.rangeLast(i), weight);
+            return this;
+        }
+
+        public Alphabet build() {
+            for (double weight : rangeWeights)
+                if (weight != 1)
+                    return buildWeighted();
+            ranges.sort((a, b) -> Character.compare(a[0], b[0]));
+            char[] firsts = new char[ranges.size()];
+            char[] lasts = new char[ranges.size()];
+            int count = 0;
+            for (char[] range : ranges) {
+                if (count > 0 && range[0] <= lasts[count - 1] + 1) {
+                    if (range[1] > lasts[count - 1])
+                        lasts[count - 1] = range[1];
+                } else {
+                    firsts[count] = range[0];
+                    lasts[count] = range[1];
+                    count++;
+                }
+            }
+            return new Alphabet(Arrays.copyOf(firsts, count), Arrays.copyOf(lasts, count), null);
+        }
+
+        // Every range starts and ends at a boundary between the pieces, so each piece lies either wholly inside or
+        // wholly outside each range, and its weight is that of the last range it lies inside.
+        private Alphabet buildWeighted() {
+            TreeSet<Integer> boundaries = new TreeSet<>();
+            for (char[] range : ranges) {
+                boundaries.add((int) range[0]);
+                boundaries.add(range[1] + 1);
+            }
+            Builder characters = new Builder();
+            List<char[]> runs = new ArrayList<>();
+            List<Double> runWeights = new ArrayList<>();
+            Integer start = boundaries.first();
+            for (Integer end = boundaries.higher(start); end != null; start = end, end = boundaries.higher(start)) {
+                double weight = weightOfPiece(start);
+                if (weight == 0)
+                    continue;
+                int last = runs.size() - 1;
+                if (last >= 0 && runs.get(last)[1] + 1 == start && runWeights.get(last) == weight) {
+                    runs.get(last)[1] = (char) (end - 1);
+                } else {
+                    runs.add(new char[]{(char) (int) start, (char) (end - 1)});
+                    runWeights.add(weight);
+                }
+                characters.addRange((char) (int) start, (char) (end - 1));
+            }
+            Alphabet set = characters.build();
+            boolean uniform = runWeights.stream().distinct().count() <= 1;
+            Weights weights = uniform ? null : new Weights(runs, runWeights);
+            return new Alphabet(set.firsts, set.lasts, weights);
+        }
+
+        private double weightOfPiece(int start) {
+            for (int i = ranges.size() - 1; i >= 0; i--)
+                if (ranges.get(i)[0] <= start && start <= ranges.get(i)[1])
+                    return rangeWeights.get(i);
+            return 0;
+        }
+    }
+
+    private static final class Weights {
+
+        private final char[] firsts;
+        private final int[] sizes;
+        private final double[] weights;
+        private final AliasTable table;
+
+        private Weights(List<char[]> runs, List<Double> runWeights) {
+            int count = runs.size();
+            firsts = new char[count];
+            sizes = new int[count];
+            weights = new double[count];
+            double[] runTotals = new double[count];
+            for (int i = 0; i < count; i++) {
+                firsts[i] = runs.get(i)[0];
+                sizes[i] = runs.get(i)[1] - firsts[i] + 1;
+                weights[i] = runWeights.get(i);
+                runTotals[i] = weights[i] * sizes[i];
+            }
+            table = new AliasTable(runTotals);
+        }
+
+        private char next(RandomEngine random) {
+            int run = table.next(random);
+            return sizes[run] == 1 ? firsts[run] : (char) (firsts[run] + random.nextInt(sizes[run]));
+        }
+
+        private double weightOf(char c) {
+            int run = Arrays.binarySearch(firsts, c);
+            return weights[run >= 0 ? run : -run - 2];
+        }
+
+        private Builder addTo(Builder builder) {
+            for (int i = 0; i < firsts.length; i++)
+                builder.addRange(firsts[i], (char) (firsts[i] + sizes[i] - 1), weights[i]);
+            return builder;
+        }
+    }
+}
@@ -1,31 +1,125 @@
 package com.github.richardjwild.randomizer.types.pattern;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
-import static java.util.Collections.singletonList;
+import static com.github.richardjwild.randomizer.localization.Messages.*;
 
+/**
+ * Collects the elements of a pattern as the parser recognises them. Consecutive literal characters are gathered into a
+ * single literal element rather than one element per character. Groups are collected on a stack, so that they can be
+ * nested, and a quantifier replaces the element that it follows with a repeated copy of it.
+ */
 public class StringPatternBuilder {
 
-    private ArrayList<StringPatternElement> elements;
+    /**
+     * The most times that an element followed by <code>*</code> or <code>+</code> is repeated.
+     */
+    public static final int MAX_UNBOUNDED_REPEAT = 16;
+
+    private final Deque<Group> groups = new ArrayDeque<>();
+    private final StringBuilder literal = new StringBuilder();
+    private boolean repeatable;
 
     public StringPatternBuilder() {
-        this.elements = new ArrayList<>();
+        groups.push(new Group());
     }
 
     public ArrayList<StringPatternElement> getElements() {
+        if (groups.size() > 1)
+            throw new StringPatternParserException(UNEXPECTED_PATTERN_END_WANTED_CLOSEPARENTHESIS);
+        endLiteral();
+        Group pattern = groups.peek();
+        if (pattern.alternatives.isEmpty())
+            return pattern.sequence;
+        ArrayList<StringPatternElement> elements = new ArrayList<>();
+        elements.add(pattern.toElement());
         return elements;
     }
 
     public void addSingleCharacterElement(char c) {
-        elements.add(new StringPatternElement(1, null, null, singletonList(c)));
+        literal.append(c);
+        repeatable = true;
+    }
+
+    public void addCharacterClass(Alphabet permittedCharacters) {
+        if (permittedCharacters.size() == 0)
+            throw new StringPatternParserException(EMPTY_CHARACTER_CLASS);
+        endLiteral();
+        groups.peek().sequence.add(new StringPatternElement(1, null, null, permittedCharacters));
+        repeatable = true;
+    }
+
+    public void startGroup() {
+        endLiteral();
+        groups.push(new Group());
+        repeatable = false;
+    }
+
+    public void addAlternative() {
+        endLiteral();
+        groups.peek().nextAlternative();
+        repeatable = false;
     }
 
-    public void addFixedLengthElement(int length, List<Character> permittedCharacters) {
-        elements.add(new StringPatternElement(length, null, null, permittedCharacters));
+    public void endGroup() {
+        if (groups.size() == 1)
+            throw new StringPatternParserException(UNEXPECTED_CLOSEPARENTHESIS);
+        endLiteral();
+        StringPatternElement group = groups.pop().toElement();
+        groups.peek().sequence.add(group);
+        repeatable = true;
     }
 
-    public void addRandomLengthElement(int minLength, int maxLength, List<Character> permittedCharacters) {
-        elements.add(new StringPatternElement(null, minLength, maxLength, permittedCharacters));
+    /**
+     * Repeats the last character, character class or group that was added.
+     * @param minLength The minimum number of repetitions, inclusive.
+     * @param maxLength The maximum number of repetitions, inclusive.
+     * @param quantifier The quantifier as it appears in the pattern, for error messages.
+     * @throws StringPatternParserException Nothing that can be repeated was added since the last quantifier, or the
+     * minimum is greater than the maximum.
+     */
+    public void repeatLast(int minLength, int maxLength, String quantifier) {
+        if (!repeatable)
+            throw new StringPatternParserException(NOTHING_TO_REPEAT, quantifier);
+        if (minLength > maxLength)
+            throw new StringPatternParserException(MIN_GREATER_THAN_MAX_IN_LENGTH_DEFINITION);
+        List<StringPatternElement> sequence = groups.peek().sequence;
+        if (literal.length() > 0) {
+            char last = literal.charAt(literal.length() - 1);
+            literal.setLength(literal.length() - 1);
+            endLiteral();
+            sequence.add(new StringPatternElement(1, null, null, Alphabet.of(last)).repeated(minLength, maxLength));
+        } else {
+            int last = sequence.size() - 1;
+            sequence.set(last, sequence.get(last).repeated(minLength, maxLength));
+        }
+        repeatable = false;
+    }
+
+    private void endLiteral() {
+        if (literal.length() > 0) {
+            groups.peek().sequence.add(new StringPatternElement(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static class Group {
+
+        private final List<List<StringPatternElement>> alternatives = new ArrayList<>();
+        private ArrayList<StringPatternElement> sequence = new ArrayList<>();
+
+        private void nextAlternative() {
+            alternatives.add(sequence);
+            sequence = new ArrayList<>();
+        }
+
+        private StringPatternElement toElement() {
+            List<List<StringPatternElement>> all = new ArrayList<>(alternatives);
+            all.add(sequence);
+            return new StringPatternElement(all);
+        }
     }
-}
\ No newline at end of file
+}
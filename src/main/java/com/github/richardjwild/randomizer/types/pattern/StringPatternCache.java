@@ -0,0 +1,96 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.richardjwild.randomizer.localization.Messages.PATTERN_CACHE_CAPACITY_MUST_BE_GREATER_THAN_ZERO;
+import static com.github.richardjwild.randomizer.validation.Validator.check;
+
+/**
+ * A bounded, thread-safe cache of parsed and compiled string patterns, keyed by the pattern string. When the cache is
+ * full the least recently used pattern is evicted. Parsing a pattern is therefore done once per distinct pattern rather
+ * than once per generated value.
+ */
+public class StringPatternCache {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private static final StringPatternCache SHARED_INSTANCE = new StringPatternCache(DEFAULT_CAPACITY);
+
+    /**
+     * Gets the cache shared by all string randomizers in this JVM.
+     * @return The shared pattern cache.
+     */
+    public static StringPatternCache sharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    private final Map<String, StringPatternPlan> patterns;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public StringPatternCache(int capacity) {
+        check(() -> capacity <= 0, PATTERN_CACHE_CAPACITY_MUST_BE_GREATER_THAN_ZERO);
+        this.patterns = new LinkedHashMap<String, StringPatternPlan>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StringPatternPlan> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the pattern elements for the specified pattern, parsing the pattern only if it is not already cached.
+     * @param pattern The pattern to look up.
+     * @return An unmodifiable list of the elements that make up the pattern.
+     * @throws StringPatternParserException The pattern could not be parsed.
+     */
+    public List<StringPatternElement> patternElements(String pattern) {
+        return plan(pattern).elements();
+    }
+
+    /**
+     * Gets the compiled plan for the specified pattern, parsing and compiling the pattern only if it is not already
+     * cached.
+     * @param pattern The pattern to look up.
+     * @return The plan.
+     * @throws StringPatternParserException The pattern could not be parsed.
+     */
+    public StringPatternPlan plan(String pattern) {
+        StringPatternPlan plan = cached(pattern);
+        if (plan != null) {
+            hits.incrementAndGet();
+            return plan;
+        }
+        misses.incrementAndGet();
+        plan = StringPatternPlan.compile(new StringPatternParser(pattern).parseAndCreatePatternElements());
+        return store(pattern, plan);
+    }
+
+    private synchronized StringPatternPlan cached(String pattern) {
+        return patterns.get(pattern);
+    }
+
+    private synchronized StringPatternPlan store(String pattern, StringPatternPlan plan) {
+        StringPatternPlan existing = patterns.putIfAbsent(pattern, plan);
+        return existing == null ? plan : existing;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return patterns.size();
+    }
+
+    public synchronized void clear() {
+        patterns.clear();
+    }
+}
@@ -4,18 +4,59 @@ import java.util.List;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 
+/**
+ * One element of a parsed pattern. An element is either literal text, a run of characters from an alphabet, or a group
+ * of alternative sequences of elements. The length of a run is a number of characters, and the length of a group is
+ * the number of times it is repeated.
+ */
 public class StringPatternElement {
 
     private final Integer length, minLength, maxLength;
-    private final List<Character> permissibleCharacters;
+    private final Alphabet permissibleCharacters;
+    private final String literal;
+    private final List<List<StringPatternElement>> alternatives;
 
-    public StringPatternElement(Integer length, Integer minLength, Integer maxLength, List<Character> permissibleCharacters) {
+    public StringPatternElement(Integer length, Integer minLength, Integer maxLength, Alphabet permissibleCharacters) {
+        this(length, minLength, maxLength, permissibleCharacters, null, null);
+    }
+
+    /**
+     * Creates an element that always produces the same literal text.
+     * @param literal The text.
+     */
+    public StringPatternElement(String literal) {
+        this(literal.length(), null, null, null, literal, null);
+    }
+
+    /**
+     * Creates a group that produces one of its alternatives, chosen at random, once.
+     * @param alternatives The alternatives, each a sequence of elements.
+     */
+    public StringPatternElement(List<List<StringPatternElement>> alternatives) {
+        this(1, null, null, null, null, alternatives);
+    }
+
+    private StringPatternElement(Integer length, Integer minLength, Integer maxLength, Alphabet permissibleCharacters,
+                                 String literal, List<List<StringPatternElement>> alternatives) {
         this.length = length;
         this.minLength = minLength;
         this.maxLength = maxLength;
-        this.permissibleCharacters = permissibleCharacters.stream().distinct().collect(toList());
+        this.permissibleCharacters = permissibleCharacters;
+        this.literal = literal;
+        this.alternatives = alternatives;
+    }
+
+    /**
+     * Creates a copy of this run of characters or group with a different length.
+     * @param minLength The minimum length, inclusive.
+     * @param maxLength The maximum length, inclusive. If it is the same as the minimum then the length is fixed.
+     * @return The new element.
+     */
+    public StringPatternElement repeated(int minLength, int maxLength) {
+        return minLength == maxLength
+                ? new StringPatternElement(minLength, null, null, permissibleCharacters, null, alternatives)
+                : new StringPatternElement(null, minLength, maxLength, permissibleCharacters, null, alternatives);
     }
 
     public Optional<Integer> length() {
@@ -30,7 +71,27 @@ public class StringPatternElement {
         return maxLength;
     }
 
-    public List<Character> permissibleCharacters() {
+    /**
+     * Gets the characters that the element is made up of, if it is a run of random characters.
+     * @return The permissible characters, or <code>null</code> if the element is a literal or a group.
+     */
+    public Alphabet permissibleCharacters() {
         return permissibleCharacters;
     }
+
+    /**
+     * Gets the text of the element, if it is a literal.
+     * @return The literal text, or nothing if the element is made up of random characters.
+     */
+    public Optional<String> literal() {
+        return ofNullable(literal);
+    }
+
+    /**
+     * Gets the alternatives that the element chooses between, if it is a group.
+     * @return The alternatives, each a sequence of elements, or nothing if the element is not a group.
+     */
+    public Optional<List<List<StringPatternElement>>> alternatives() {
+        return ofNullable(alternatives);
+    }
 }
@@ -0,0 +1,891 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import static com.github.richardjwild.randomizer.localization.Messages.INDEX_OUT_OF_RANGE;
+import static com.github.richardjwild.randomizer.localization.Messages.TOO_MANY_STRINGS_TO_COUNT;
+import static com.github.richardjwild.randomizer.localization.Messages.getMessage;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A string pattern compiled into the sequence of segments that a generated string is made of. Every segment is either
+ * constant text, held as a ready-made character array, a run of random characters from an alphabet, or a group that
+ * is repeated a number of times, choosing one of its alternatives, each compiled into a plan of its own, at random
+ * every time. Adjacent constant elements, i.e. literals, fixed-length elements of a single character and groups that
+ * can only produce one string, are fused into one segment, so copying the literal parts of a pattern such as
+ * <code>[a-z]{5,10}@[a-z]{5,10}.com</code> costs one array copy each.<p>
+ * Every choice is made by walking the plan, so every string generated follows the pattern without having to be
+ * checked or thrown away. The plan knows the shortest and longest strings it can generate, so a string of bounded
+ * length is generated into a single character array of the right size without any intermediate strings or builders.
+ * A plan is immutable and can be shared between threads.
+ */
+public final class StringPatternPlan {
+
+    private static final int MAX_FUSED_REPEAT = 4096;
+    private static final int MAX_PRESIZED_LENGTH = 65536;
+    private static final int CHUNK_SIZE = 8192;
+    private static final int MAX_CARDINALITY_BITS = 1 << 20;
+
+    /**
+     * Compiles a list of pattern elements into a plan.
+     * @param elements The elements, in the order they appear in the pattern.
+     * @return The plan.
+     */
+    public static StringPatternPlan compile(List<StringPatternElement> elements) {
+        return new StringPatternPlan(elements);
+    }
+
+    private final List<StringPatternElement> elements;
+    private final char[][] literals;
+    private final Alphabet[] alphabets;
+    private final StringPatternPlan[][] groups;
+    private final int[] minLengths;
+    private final long[] lengthRanges;
+    private final long minLength, maxLength;
+    private volatile Space space;
+
+    private StringPatternPlan(List<StringPatternElement> elements) {
+        this.elements = unmodifiableList(elements);
+        Segments segments = new Segments();
+        segments.addAll(elements);
+        segments.endConstant();
+        int count = segments.literals.size();
+        this.literals = segments.literals.toArray(new char[count][]);
+        this.alphabets = segments.alphabets.toArray(new Alphabet[count]);
+        this.groups = segments.groups.toArray(new StringPatternPlan[count][]);
+        this.minLengths = new int[count];
+        this.lengthRanges = new long[count];
+        long minLength = 0, maxLength = 0;
+        for (int i = 0; i < count; i++) {
+            minLengths[i] = segments.minLengths.get(i);
+            lengthRanges[i] = segments.lengthRanges.get(i);
+            long maxRepeat = minLengths[i] + Math.max(lengthRanges[i] - 1, 0);
+            if (groups[i] == null) {
+                minLength += minLengths[i];
+                maxLength += maxRepeat;
+            } else {
+                long shortest = Long.MAX_VALUE, longest = 0;
+                for (StringPatternPlan alternative : groups[i]) {
+                    shortest = Math.min(shortest, alternative.minLength);
+                    longest = Math.max(longest, alternative.maxLength);
+                }
+                minLength += minLengths[i] * shortest;
+                maxLength += maxRepeat * longest;
+            }
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Gets the elements that the plan was compiled from.
+     * @return An unmodifiable list of the elements.
+     */
+    public List<StringPatternElement> elements() {
+        return elements;
+    }
+
+    /**
+     * Gets the number of segments in the plan, after adjacent constant elements have been fused.
+     * @return The number of segments.
+     */
+    public int segmentCount() {
+        return literals.length;
+    }
+
+    /**
+     * Gets the length of the shortest string that the plan can generate.
+     * @return The minimum length.
+     */
+    public long minLength() {
+        return minLength;
+    }
+
+    /**
+     * Gets the length of the longest string that the plan can generate. It is the same as {@link #minLength()} if
+     * every generated string is the same length.
+     * @return The maximum length.
+     */
+    public long maxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Generates a string. The random numbers for each segment are drawn in order: its length or number of repetitions
+     * first, if that varies, then its characters, or for a group the alternative for each repetition, if there is more
+     * than one, followed by the random numbers for the alternative. Every method of the plan therefore generates the
+     * same characters from the same random numbers.
+     * @param random The random number generator to use.
+     * @return The generated string.
+     */
+    public String generate(RandomEngine random) {
+        if (maxLength <= MAX_PRESIZED_LENGTH) {
+            char[] characters = new char[(int) maxLength];
+            return new String(characters, 0, write(random, characters, 0));
+        }
+        return build((chunk, sink) -> write(random, chunk, sink));
+    }
+
+    // Builds a string that may be too long to presize an array for from the chunks that the writer writes.
+    private static String build(ChunkWriter writer) {
+        StringBuilder builder = new StringBuilder(MAX_PRESIZED_LENGTH);
+        try {
+            writer.write(new char[CHUNK_SIZE], (chunk, length) -> builder.append(chunk, 0, length));
+        } catch (IOException e) {
+            // appending to a StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Generates a string into a character array. The array must have room for {@link #maxLength()} characters from
+     * the offset.
+     * @param random The random number generator to use.
+     * @param destination The array to write the string into.
+     * @param offset The index in the array of the first character of the string.
+     * @return The length of the string that was written.
+     */
+    public int write(RandomEngine random, char[] destination, int offset) {
+        int position = offset;
+        for (int i = 0; i < literals.length; i++) {
+            int length = segmentLength(random, i);
+            if (literals[i] != null) {
+                System.arraycopy(literals[i], 0, destination, position, length);
+                position += length;
+            } else if (alphabets[i] != null) {
+                writeRandom(random, alphabets[i], destination, position, length);
+                position += length;
+            } else {
+                for (StringPatternPlan[] alternatives = groups[i]; length > 0; length--)
+                    position += choose(random, alternatives).write(random, destination, position);
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * Generates a string and passes it to a sink a chunk at a time, so however long it is, it is never held in memory
+     * as a whole. The same chunk array is passed to the sink every time.
+     * @param random The random number generator to use.
+     * @param chunk The array to generate each chunk into.
+     * @param sink Where to write each chunk.
+     * @return The number of characters written.
+     * @throws IOException The sink could not be written to.
+     */
+    public long write(RandomEngine random, char[] chunk, ChunkSink sink) throws IOException {
+        Chunks chunks = new Chunks(chunk, sink);
+        write(random, chunks);
+        return chunks.finish();
+    }
+
+    private void write(RandomEngine random, Chunks chunks) throws IOException {
+        for (int i = 0; i < literals.length; i++) {
+            int length = segmentLength(random, i);
+            if (literals[i] != null) {
+                chunks.copy(literals[i], length);
+            } else if (alphabets[i] != null) {
+                chunks.random(random, alphabets[i], length);
+            } else {
+                for (StringPatternPlan[] alternatives = groups[i]; length > 0; length--)
+                    choose(random, alternatives).write(random, chunks);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of different ways in which the plan can generate a string, which is the number of strings it can
+     * generate unless different choices can produce the same string, as in <code>a?a?</code> or <code>(a|a)</code>.
+     * Each of them has an index, from zero to one less than the cardinality, in order of the choices made from the
+     * start of the pattern: lengths in ascending order, characters in alphabet order and alternatives in the order
+     * they are written. The first time this or any other method that uses indexes is called, the number of choices
+     * for each element of the pattern is counted.
+     * @return The number of strings.
+     * @throws IllegalArgumentException The plan can generate more than 2<sup>1048576</sup> strings, which is too many
+     * to count.
+     */
+    public BigInteger cardinality() {
+        return space().cardinality;
+    }
+
+    /**
+     * Gets the string with a given index, as defined by {@link #cardinality()}.
+     * @param index The index of the string.
+     * @return The string.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public String stringAt(long index) {
+        if (maxLength <= MAX_PRESIZED_LENGTH) {
+            char[] characters = new char[(int) maxLength];
+            return new String(characters, 0, write(index, characters, 0));
+        }
+        return build((chunk, sink) -> write(index, chunk, sink));
+    }
+
+    /**
+     * Gets the string with a given index, as defined by {@link #cardinality()}.
+     * @param index The index of the string.
+     * @return The string.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public String stringAt(BigInteger index) {
+        if (maxLength <= MAX_PRESIZED_LENGTH) {
+            char[] characters = new char[(int) maxLength];
+            return new String(characters, 0, write(index, characters, 0));
+        }
+        return build((chunk, sink) -> write(index, chunk, sink));
+    }
+
+    /**
+     * Writes the string with a given index, as defined by {@link #cardinality()}, into a character array. The array
+     * must have room for {@link #maxLength()} characters from the offset. When the cardinality is less than
+     * 2<sup>63</sup>, the index is worked out with longs rather than BigIntegers.
+     * @param index The index of the string.
+     * @param destination The array to write the string into.
+     * @param offset The index in the array of the first character of the string.
+     * @return The length of the string that was written.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public int write(long index, char[] destination, int offset) {
+        Space space = space();
+        if (space.longCounts == null)
+            return write(BigInteger.valueOf(index), destination, offset);
+        checkIndex(space, index);
+        ArrayOutput out = new ArrayOutput(destination, offset);
+        try {
+            space.write(index, out);
+        } catch (IOException e) {
+            // writing to an array does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return out.position - offset;
+    }
+
+    /**
+     * Writes the string with a given index, as defined by {@link #cardinality()}, into a character array. The array
+     * must have room for {@link #maxLength()} characters from the offset.
+     * @param index The index of the string.
+     * @param destination The array to write the string into.
+     * @param offset The index in the array of the first character of the string.
+     * @return The length of the string that was written.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public int write(BigInteger index, char[] destination, int offset) {
+        Space space = space();
+        checkIndex(space, index);
+        ArrayOutput out = new ArrayOutput(destination, offset);
+        try {
+            if (space.longCounts != null)
+                space.write(index.longValue(), out);
+            else
+                space.write(index, out);
+        } catch (IOException e) {
+            // writing to an array does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return out.position - offset;
+    }
+
+    /**
+     * Writes the string with a given index, as defined by {@link #cardinality()}, to a sink a chunk at a time, so
+     * however long it is, it is never held in memory as a whole. The same chunk array is passed to the sink every time.
+     * @param index The index of the string.
+     * @param chunk The array to write each chunk into.
+     * @param sink Where to write each chunk.
+     * @return The number of characters written.
+     * @throws IOException The sink could not be written to.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public long write(long index, char[] chunk, ChunkSink sink) throws IOException {
+        Space space = space();
+        if (space.longCounts == null)
+            return write(BigInteger.valueOf(index), chunk, sink);
+        checkIndex(space, index);
+        Chunks chunks = new Chunks(chunk, sink);
+        space.write(index, chunks);
+        return chunks.finish();
+    }
+
+    /**
+     * Writes the string with a given index, as defined by {@link #cardinality()}, to a sink a chunk at a time, so
+     * however long it is, it is never held in memory as a whole. The same chunk array is passed to the sink every time.
+     * @param index The index of the string.
+     * @param chunk The array to write each chunk into.
+     * @param sink Where to write each chunk.
+     * @return The number of characters written.
+     * @throws IOException The sink could not be written to.
+     * @throws IndexOutOfBoundsException The index is negative, or not less than the cardinality.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public long write(BigInteger index, char[] chunk, ChunkSink sink) throws IOException {
+        Space space = space();
+        checkIndex(space, index);
+        Chunks chunks = new Chunks(chunk, sink);
+        if (space.longCounts != null)
+            space.write(index.longValue(), chunks);
+        else
+            space.write(index, chunks);
+        return chunks.finish();
+    }
+
+    private static void checkIndex(Space space, long index) {
+        if (index < 0 || index >= space.longCardinality)
+            throw new IndexOutOfBoundsException(getMessage(INDEX_OUT_OF_RANGE, Long.toString(index),
+                    Long.toString(space.longCardinality)));
+    }
+
+    private static void checkIndex(Space space, BigInteger index) {
+        if (index.signum() < 0 || index.compareTo(space.cardinality) >= 0)
+            throw new IndexOutOfBoundsException(getMessage(INDEX_OUT_OF_RANGE, index.toString(),
+                    space.cardinality.toString()));
+    }
+
+    /**
+     * Gets the index of a string, as defined by {@link #cardinality()}, so that <code>stringAt(indexOf(s))</code> is
+     * <code>s</code> for every string <code>s</code> that the plan can generate. If different choices in the pattern
+     * can produce the string, this is the lowest of their indexes.
+     * @param string The string.
+     * @return The index of the string, or -1 if the plan cannot generate it.
+     * @throws IllegalArgumentException The plan can generate too many strings to count.
+     */
+    public BigInteger indexOf(String string) {
+        List<Integer> choices = new ArrayList<>();
+        if (!match(string, 0, 0, end -> end == string.length(), choices))
+            return BigInteger.ONE.negate();
+        return space().index(string, new int[1], choices.iterator());
+    }
+
+    // Finds the first way, in index order, that the segments from the given one onwards can match the string from the
+    // given position and leave the rest of it to match whatever follows. The length of each run of characters and
+    // group, and the alternative chosen for each repetition of a group, are recorded in the order they are made.
+    private boolean match(String string, int segment, int position, IntPredicate rest, List<Integer> choices) {
+        if (segment == literals.length)
+            return rest.test(position);
+        if (literals[segment] != null) {
+            char[] literal = literals[segment];
+            if (position + literal.length > string.length())
+                return false;
+            for (int c = 0; c < literal.length; c++)
+                if (string.charAt(position + c) != literal[c])
+                    return false;
+            return match(string, segment + 1, position + literal.length, rest, choices);
+        }
+        long maxLength = minLengths[segment] + Math.max(lengthRanges[segment] - 1, 0);
+        for (int length = minLengths[segment]; length <= maxLength && length >= 0; length++) {
+            choices.add(length);
+            if (alphabets[segment] != null) {
+                if (!matchesRun(string, alphabets[segment], position, length))
+                    return undo(choices);
+                if (match(string, segment + 1, position + length, rest, choices))
+                    return true;
+            } else if (matchRepetitions(string, segment, length, position, rest, choices)) {
+                return true;
+            }
+            undo(choices);
+        }
+        return false;
+    }
+
+    private boolean matchRepetitions(
+            String string, int segment, int repetitions, int position, IntPredicate rest, List<Integer> choices) {
+        if (repetitions == 0)
+            return match(string, segment + 1, position, rest, choices);
+        StringPatternPlan[] alternatives = groups[segment];
+        IntPredicate remainingRepetitions =
+                end -> matchRepetitions(string, segment, repetitions - 1, end, rest, choices);
+        for (int a = 0; a < alternatives.length; a++) {
+            choices.add(a);
+            if (alternatives[a].match(string, 0, position, remainingRepetitions, choices))
+                return true;
+            undo(choices);
+        }
+        return false;
+    }
+
+    private static boolean matchesRun(String string, Alphabet alphabet, int position, int length) {
+        if (position + length > string.length())
+            return false;
+        for (int c = position; c < position + length; c++)
+            if (!alphabet.contains(string.charAt(c)))
+                return false;
+        return true;
+    }
+
+    private static boolean undo(List<Integer> choices) {
+        choices.remove(choices.size() - 1);
+        return false;
+    }
+
+    private Space space() {
+        Space space = this.space;
+        if (space == null)
+            this.space = space = new Space(this);
+        return space;
+    }
+
+    // The range is a long because {0,2147483647} allows one more length than an int can count.
+    private int segmentLength(RandomEngine random, int segment) {
+        long range = lengthRanges[segment];
+        if (range == 0)
+            return minLengths[segment];
+        return range <= Integer.MAX_VALUE
+                ? random.nextInt((int) range) + minLengths[segment]
+                : (int) (random.nextLong(range) + minLengths[segment]);
+    }
+
+    private static StringPatternPlan choose(RandomEngine random, StringPatternPlan[] alternatives) {
+        return alternatives.length == 1 ? alternatives[0] : alternatives[random.nextInt(alternatives.length)];
+    }
+
+    private static void writeRandom(RandomEngine random, Alphabet alphabet, char[] destination, int from, int length) {
+        if (alphabet.isWeighted()) {
+            for (int i = from, end = from + length; i < end; i++)
+                destination[i] = alphabet.next(random);
+            return;
+        }
+        int size = alphabet.size();
+        for (int i = from, end = from + length; i < end; i++)
+            destination[i] = alphabet.charAt(random.nextInt(size));
+    }
+
+    private char[] constantText() {
+        if (literals.length == 0)
+            return new char[0];
+        return literals.length == 1 ? literals[0] : null;
+    }
+
+    /**
+     * Receives the characters of a generated string a chunk at a time.
+     */
+    public interface ChunkSink {
+
+        /**
+         * Receives the next chunk of characters. The array is reused for the following chunk, so it must not be kept.
+         * @param chunk The array holding the chunk.
+         * @param length The number of characters in the chunk, from the start of the array.
+         * @throws IOException The characters could not be written.
+         */
+        void write(char[] chunk, int length) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+
+        long write(char[] chunk, ChunkSink sink) throws IOException;
+    }
+
+    /**
+     * Where the characters of a string written from its index go: an array, or chunks passed to a sink.
+     */
+    private interface Output {
+
+        void put(char c) throws IOException;
+
+        void put(char[] text) throws IOException;
+    }
+
+    private static final class ArrayOutput implements Output {
+
+        private final char[] destination;
+        private int position;
+
+        private ArrayOutput(char[] destination, int position) {
+            this.destination = destination;
+            this.position = position;
+        }
+
+        @Override
+        public void put(char c) {
+            destination[position++] = c;
+        }
+
+        @Override
+        public void put(char[] text) {
+            System.arraycopy(text, 0, destination, position, text.length);
+            position += text.length;
+        }
+    }
+
+    /**
+     * The number of choices that each segment of a plan can make, and the arithmetic to turn an index into the choices
+     * that it stands for. Each segment's choices are a digit of the index, the first segment's the most significant.
+     * The choices for a run of characters, or a group, of one length come before those of the next length, and within
+     * a length are the digits of a number in base <i>n</i>, where <i>n</i> is the size of the alphabet or the number
+     * of choices of one repetition of the group. The number of choices of each length is not tabulated, but worked out
+     * as the sum of a geometric series, so a quantifier such as <code>{1,2147483647}</code> costs no more to count than
+     * <code>{1,2}</code>; the size of each count is estimated before it is worked out, and a plan with too many strings
+     * to count is rejected. When there are fewer than 2<sup>63</sup> choices in all, the digits are worked out with
+     * longs rather than BigIntegers.
+     */
+    private static final class Space {
+
+        private static final double LOG_2 = Math.log(2);
+        private static final int MAX_UNSPLIT_CHOICES = 16;
+
+        private final StringPatternPlan plan;
+        private final BigInteger cardinality;
+        private final long longCardinality;
+        private final BigInteger[] counts, strides, bases, shortest;
+        private final long[] longCounts, longStrides, longBases, longShortest;
+
+        private Space(StringPatternPlan plan) {
+            this.plan = plan;
+            int count = plan.literals.length;
+            counts = new BigInteger[count];
+            strides = new BigInteger[count];
+            bases = new BigInteger[count];
+            shortest = new BigInteger[count];
+            BigInteger cardinality = BigInteger.ONE;
+            double bits = 0;
+            for (int i = count - 1; i >= 0; i--) {
+                strides[i] = cardinality;
+                counts[i] = BigInteger.ONE;
+                if (plan.literals[i] == null) {
+                    bases[i] = plan.alphabets[i] != null
+                            ? BigInteger.valueOf(plan.alphabets[i].size())
+                            : alternativesCardinality(plan.groups[i]);
+                    long lengths = Math.max(plan.lengthRanges[i], 1);
+                    // There are at most lengths * base^longest choices, whose size is known without working them out.
+                    bits += log2(BigInteger.valueOf(lengths)) + log2(bases[i]) * (plan.minLengths[i] + lengths - 1);
+                    if (bits > MAX_CARDINALITY_BITS)
+                        throw new IllegalArgumentException(getMessage(TOO_MANY_STRINGS_TO_COUNT,
+                                Integer.toString(MAX_CARDINALITY_BITS)));
+                    shortest[i] = bases[i].pow(plan.minLengths[i]);
+                    counts[i] = strings(bases[i], shortest[i], lengths);
+                }
+                cardinality = cardinality.multiply(counts[i]);
+            }
+            this.cardinality = cardinality;
+            this.longCardinality = cardinality.longValue();
+            if (cardinality.bitLength() < Long.SIZE) {
+                longCounts = longs(counts);
+                longStrides = longs(strides);
+                longBases = longs(bases);
+                longShortest = longs(shortest);
+            } else {
+                longCounts = longStrides = longBases = longShortest = null;
+            }
+        }
+
+        // The number of choices of the given number of lengths, from the shortest, when each character or repetition
+        // has the given number of choices: shortest * (base^lengths - 1) / (base - 1).
+        private static BigInteger strings(BigInteger base, BigInteger shortest, long lengths) {
+            if (base.equals(BigInteger.ONE))
+                return BigInteger.valueOf(lengths);
+            return shortest.multiply(base.pow((int) lengths).subtract(BigInteger.ONE))
+                    .divide(base.subtract(BigInteger.ONE));
+        }
+
+        // The number of lengths, from the shortest, whose choices all come before the given digit: the largest k for
+        // which strings(base, shortest, k) <= digit, i.e. base^k <= digit * (base - 1) / shortest + 1.
+        private static int lengthsBefore(BigInteger base, BigInteger shortest, BigInteger digit) {
+            if (base.equals(BigInteger.ONE))
+                return digit.intValue();
+            BigInteger bound = digit.multiply(base.subtract(BigInteger.ONE)).divide(shortest).add(BigInteger.ONE);
+            int lengths = (int) (log2(bound) / log2(base));
+            while (lengths > 0 && base.pow(lengths).compareTo(bound) > 0)
+                lengths--;
+            while (base.pow(lengths + 1).compareTo(bound) <= 0)
+                lengths++;
+            return lengths;
+        }
+
+        private static double log2(BigInteger value) {
+            int shift = Math.max(value.bitLength() - Long.SIZE + 2, 0);
+            return shift + Math.log(value.shiftRight(shift).doubleValue()) / LOG_2;
+        }
+
+        private BigInteger index(String string, int[] position, Iterator<Integer> choices) {
+            BigInteger index = BigInteger.ZERO;
+            for (int i = 0; i < counts.length; i++) {
+                if (plan.literals[i] != null) {
+                    position[0] += plan.literals[i].length;
+                    continue;
+                }
+                int length = choices.next();
+                BigInteger digit = strings(bases[i], shortest[i], length - plan.minLengths[i]);
+                BigInteger value = BigInteger.ZERO;
+                for (int r = 0; r < length; r++) {
+                    BigInteger choice = plan.alphabets[i] != null
+                            ? BigInteger.valueOf(plan.alphabets[i].indexOf(string.charAt(position[0]++)))
+                            : alternativeIndex(plan.groups[i], string, position, choices);
+                    value = value.multiply(bases[i]).add(choice);
+                }
+                index = index.add(digit.add(value).multiply(strides[i]));
+            }
+            return index;
+        }
+
+        private static BigInteger alternativeIndex(
+                StringPatternPlan[] alternatives, String string, int[] position, Iterator<Integer> choices) {
+            int chosen = choices.next();
+            BigInteger index = BigInteger.ZERO;
+            for (int a = 0; a < chosen; a++)
+                index = index.add(alternatives[a].cardinality());
+            return index.add(alternatives[chosen].space().index(string, position, choices));
+        }
+
+        private static BigInteger alternativesCardinality(StringPatternPlan[] alternatives) {
+            BigInteger cardinality = BigInteger.ZERO;
+            for (StringPatternPlan alternative : alternatives)
+                cardinality = cardinality.add(alternative.cardinality());
+            return cardinality;
+        }
+
+        private static long[] longs(BigInteger[] values) {
+            long[] longs = new long[values.length];
+            for (int i = 0; i < values.length; i++)
+                longs[i] = values[i] == null ? 0 : values[i].longValue();
+            return longs;
+        }
+
+        // Each length's choices fit in a long here, so each block of them can be stepped over until the digit falls
+        // within one, leaving the block as base^length. The choices are then written from the most significant.
+        private void write(long index, Output out) throws IOException {
+            for (int i = 0; i < counts.length; i++) {
+                if (plan.literals[i] != null) {
+                    out.put(plan.literals[i]);
+                    continue;
+                }
+                long digit = index / longStrides[i] % longCounts[i];
+                long base = longBases[i];
+                if (base == 1) {
+                    int length = plan.minLengths[i] + (int) digit;
+                    for (int r = 0; r < length; r++)
+                        writeChoice(i, 0, out);
+                    continue;
+                }
+                long block = longShortest[i];
+                while (digit >= block) {
+                    digit -= block;
+                    block *= base;
+                }
+                for (long place = block / base; place > 0; place /= base) {
+                    writeChoice(i, digit / place, out);
+                    digit %= place;
+                }
+            }
+        }
+
+        private void writeChoice(int segment, long choice, Output out) throws IOException {
+            if (plan.alphabets[segment] != null)
+                out.put(plan.alphabets[segment].charAt((int) choice));
+            else
+                writeAlternative(plan.groups[segment], choice, out);
+        }
+
+        private static void writeAlternative(StringPatternPlan[] alternatives, long index, Output out)
+                throws IOException {
+            int a = 0;
+            while (index >= alternatives[a].space().longCardinality)
+                index -= alternatives[a++].space().longCardinality;
+            alternatives[a].space().write(index, out);
+        }
+
+        private void write(BigInteger index, Output out) throws IOException {
+            for (int i = 0; i < counts.length; i++) {
+                if (plan.literals[i] != null) {
+                    out.put(plan.literals[i]);
+                    continue;
+                }
+                BigInteger digit = index.divide(strides[i]).mod(counts[i]);
+                int lengths = lengthsBefore(bases[i], shortest[i], digit);
+                digit = digit.subtract(strings(bases[i], shortest[i], lengths));
+                writeChoices(i, digit, plan.minLengths[i] + lengths, out);
+            }
+        }
+
+        // Splits the digit in halves until each half stands for only a few choices, so that a long run takes a few
+        // divisions of ever smaller numbers rather than one division of the whole digit for every choice.
+        private void writeChoices(int segment, BigInteger digit, int count, Output out) throws IOException {
+            if (count > MAX_UNSPLIT_CHOICES) {
+                int low = count / 2;
+                BigInteger[] quotientAndRemainder = digit.divideAndRemainder(bases[segment].pow(low));
+                writeChoices(segment, quotientAndRemainder[0], count - low, out);
+                writeChoices(segment, quotientAndRemainder[1], low, out);
+                return;
+            }
+            BigInteger place = bases[segment].pow(Math.max(count - 1, 0));
+            for (int r = 0; r < count; r++) {
+                BigInteger[] quotientAndRemainder = digit.divideAndRemainder(place);
+                writeChoice(segment, quotientAndRemainder[0], out);
+                digit = quotientAndRemainder[1];
+                place = place.divide(bases[segment]);
+            }
+        }
+
+        private void writeChoice(int segment, BigInteger choice, Output out) throws IOException {
+            if (plan.alphabets[segment] != null)
+                out.put(plan.alphabets[segment].charAt(choice.intValue()));
+            else
+                writeAlternative(plan.groups[segment], choice, out);
+        }
+
+        private static void writeAlternative(StringPatternPlan[] alternatives, BigInteger index, Output out)
+                throws IOException {
+            int a = 0;
+            while (index.compareTo(alternatives[a].cardinality()) >= 0)
+                index = index.subtract(alternatives[a++].cardinality());
+            Space space = alternatives[a].space();
+            if (space.longCounts != null)
+                space.write(index.longValue(), out);
+            else
+                space.write(index, out);
+        }
+    }
+
+    /**
+     * Collects the segments of a plan while it is being compiled. A group with a single alternative that is not
+     * repeated is not a segment of its own, but has its elements added in its place.
+     */
+    private static class Segments {
+
+        private final List<char[]> literals = new ArrayList<>();
+        private final List<Alphabet> alphabets = new ArrayList<>();
+        private final List<StringPatternPlan[]> groups = new ArrayList<>();
+        private final List<Integer> minLengths = new ArrayList<>();
+        private final List<Long> lengthRanges = new ArrayList<>();
+        private final StringBuilder constant = new StringBuilder();
+
+        private void addAll(List<StringPatternElement> elements) {
+            for (StringPatternElement element : elements) {
+                if (element.literal().isPresent())
+                    constant.append(element.literal().get());
+                else if (element.alternatives().isPresent())
+                    addGroup(element, element.alternatives().get());
+                else
+                    addRun(element, element.permissibleCharacters());
+            }
+        }
+
+        private void addRun(StringPatternElement element, Alphabet alphabet) {
+            int fixedLength = element.length().orElse(-1);
+            if (alphabet.size() == 1 && fixedLength >= 0 && fixedLength <= MAX_FUSED_REPEAT) {
+                for (int c = fixedLength; c > 0; c--)
+                    constant.append(alphabet.charAt(0));
+            } else {
+                add(null, alphabet, null, element);
+            }
+        }
+
+        private void addGroup(StringPatternElement element, List<List<StringPatternElement>> alternatives) {
+            int fixedLength = element.length().orElse(-1);
+            if (alternatives.size() == 1 && fixedLength == 1) {
+                addAll(alternatives.get(0));
+                return;
+            }
+            StringPatternPlan[] plans = new StringPatternPlan[alternatives.size()];
+            for (int i = 0; i < plans.length; i++)
+                plans[i] = compile(alternatives.get(i));
+            char[] text = plans.length == 1 ? plans[0].constantText() : null;
+            if (text != null && fixedLength >= 0 && (long) fixedLength * text.length <= MAX_FUSED_REPEAT) {
+                for (int r = fixedLength; r > 0; r--)
+                    constant.append(text);
+            } else {
+                add(null, null, plans, element);
+            }
+        }
+
+        private void add(char[] literal, Alphabet alphabet, StringPatternPlan[] group, StringPatternElement element) {
+            endConstant();
+            literals.add(literal);
+            alphabets.add(alphabet);
+            groups.add(group);
+            if (element.length().isPresent()) {
+                minLengths.add(element.length().get());
+                lengthRanges.add(0L);
+            } else {
+                int min = element.minLength().orElse(1);
+                minLengths.add(min);
+                lengthRanges.add((long) element.maxLength() - min + 1);
+            }
+        }
+
+        private void endConstant() {
+            if (constant.length() > 0) {
+                literals.add(constant.toString().toCharArray());
+                alphabets.add(null);
+                groups.add(null);
+                minLengths.add(constant.length());
+                lengthRanges.add(0L);
+                constant.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * Gathers generated characters into chunks and passes each chunk to a sink when it is full.
+     */
+    private static class Chunks implements Output {
+
+        private final char[] chunk;
+        private final ChunkSink sink;
+        private int used;
+        private long written;
+
+        private Chunks(char[] chunk, ChunkSink sink) {
+            this.chunk = chunk;
+            this.sink = sink;
+        }
+
+        private void copy(char[] text, int length) throws IOException {
+            for (int start = 0; start < length; ) {
+                int count = Math.min(length - start, chunk.length - used);
+                System.arraycopy(text, start, chunk, used, count);
+                start += count;
+                added(count);
+            }
+        }
+
+        @Override
+        public void put(char c) throws IOException {
+            chunk[used] = c;
+            added(1);
+        }
+
+        @Override
+        public void put(char[] text) throws IOException {
+            copy(text, text.length);
+        }
+
+        private void random(RandomEngine random, Alphabet alphabet, int length) throws IOException {
+            for (int remaining = length; remaining > 0; ) {
+                int count = Math.min(remaining, chunk.length - used);
+                writeRandom(random, alphabet, chunk, used, count);
+                remaining -= count;
+                added(count);
+            }
+        }
+
+        private void added(int count) throws IOException {
+            used += count;
+            if (used == chunk.length) {
+                sink.write(chunk, used);
+                written += used;
+                used = 0;
+            }
+        }
+
+        private long finish() throws IOException {
+            if (used > 0) {
+                sink.write(chunk, used);
+                written += used;
+                used = 0;
+            }
+            return written;
+        }
+    }
+}
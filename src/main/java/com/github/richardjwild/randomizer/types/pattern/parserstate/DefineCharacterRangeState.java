@@ -1,20 +1,17 @@
 package com.github.richardjwild.randomizer.types.pattern.parserstate;
 
+import com.github.richardjwild.randomizer.types.pattern.Alphabet;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternBuilder;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParserException;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Stream;
-
 import static com.github.richardjwild.randomizer.localization.Messages.*;
-import static com.github.richardjwild.randomizer.streams.Characters.from;
 import static com.github.richardjwild.randomizer.types.pattern.StringPatternParser.exception;
 
 public class DefineCharacterRangeState extends ParserState {
 
-    private final List<Character> permittedCharacters = new ArrayList<>();
+    private final Alphabet.Builder permittedCharacters = new Alphabet.Builder();
+    private boolean first = true, negated, weighted;
 
     public DefineCharacterRangeState(StringPatternParser parser, StringPatternBuilder builder) {
         super(parser, builder);
@@ -22,32 +19,61 @@ public class DefineCharacterRangeState extends ParserState {
 
     @Override
     public ParserState handleCharacter(char c) {
+        boolean firstCharacter = first;
+        first = false;
         switch (c) {
             case '\\':
                 treatNextCharacterAsLiteral();
                 return this;
+            case '^':
+                if (firstCharacter) {
+                    negated = true;
+                    return this;
+                }
+                addPermittedCharacterOrDefineRange(c);
+                return this;
             case ']':
-                if (!nextCharacterDefinesLength())
-                    throw new StringPatternParserException(UNEXPECTED_CHARACTER_WANTED_OPENCURLYBRACE);
-                parser.skip(1);
-                return new DefineRangeLengthState(parser, builder, permittedCharacters);
+                if (negated && weighted)
+                    throw new StringPatternParserException(WEIGHT_IN_NEGATED_CHARACTER_CLASS);
+                builder.addCharacterClass(negated
+                        ? permittedCharacters.build().complement(' ', Character.MAX_VALUE)
+                        : permittedCharacters.build());
+                return nextState();
             default:
                 addPermittedCharacterOrDefineRange(c);
                 return this;
         }
     }
 
+    private ParserState nextState() {
+        switch (parser.lookAhead(1).orElseThrow(exception(UNEXPECTED_PATTERN_END_WANTED_OPENCURLYBRACE))) {
+            case '{':
+                parser.skip(1);
+                return new DefineRangeLengthState(parser, builder);
+            case '?':
+            case '*':
+            case '+':
+                return new DefineLiteralPatternState(parser, builder);
+            default:
+                throw new StringPatternParserException(UNEXPECTED_CHARACTER_WANTED_OPENCURLYBRACE);
+        }
+    }
+
     private void treatNextCharacterAsLiteral() {
         char nextChar = parser.lookAhead(1).orElseThrow(exception(UNEXPECTED_PATTERN_END_WANTED_CHARACTER));
         parser.skip(1);
-        addPermittedCharacterOrDefineRange(nextChar);
+        Alphabet shorthand = shorthandCharacterClass(nextChar);
+        if (shorthand == null)
+            addPermittedCharacterOrDefineRange(nextChar);
+        else
+            permittedCharacters.addAll(shorthand, weight());
     }
 
     private void addPermittedCharacterOrDefineRange(char nextChar) {
         if (nextCharacterDefinesRange())
             addRangeOfPermittedCharacters(nextChar);
         else
-            permittedCharacters.add(nextChar);
+            permittedCharacters.add(nextChar, weight());
     }
 
     private boolean nextCharacterDefinesRange() {
@@ -57,7 +83,7 @@ public class DefineCharacterRangeState extends ParserState {
 
     private void addRangeOfPermittedCharacters(char minChar) {
         char maxChar = getMaxChar();
-        allCharsBetween(minChar, maxChar).forEach(permittedCharacters::add);
+        permittedCharacters.addRange(minChar, maxChar, weight());
     }
 
     private char getMaxChar() {
@@ -70,15 +96,28 @@ public class DefineCharacterRangeState extends ParserState {
         return maxChar;
     }
 
-    private Stream<Character> allCharsBetween(char minChar, char maxChar) {
-        if (minChar <= maxChar)
-            return from(minChar).limit(maxChar - minChar);
-        else
-            return from(maxChar).limit(minChar - maxChar);
+    // A weight is only recognised when the braces hold a number, so that braces remain literal characters otherwise.
+    private double weight() {
+        int end = 2;
+        boolean digits = false;
+        for (char c; (c = parser.lookAhead(end).orElse('}')) != '}' && (isDigit(c) || c == '.'); end++)
+            digits |= isDigit(c);
+        if (!digits || parser.lookAhead(1).orElse(' ') != '{' || parser.lookAhead(end).orElse(' ') != '}')
+            return 1;
+        StringBuilder number = new StringBuilder();
+        for (int i = 2; i < end; i++)
+            number.append(parser.lookAhead(i).get());
+        parser.skip(end);
+        weighted = true;
+        try {
+            return Double.parseDouble(number.toString());
+        } catch (NumberFormatException e) {
+            throw new StringPatternParserException(INVALID_NUMBER_IN_CHARACTER_WEIGHT, number.toString());
+        }
     }
 
-    private boolean nextCharacterDefinesLength() {
-        return '{' == parser.lookAhead(1).orElseThrow(exception(UNEXPECTED_PATTERN_END_WANTED_OPENCURLYBRACE));
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     @Override
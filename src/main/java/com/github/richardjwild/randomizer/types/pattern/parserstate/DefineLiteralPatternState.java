@@ -1,9 +1,11 @@
 package com.github.richardjwild.randomizer.types.pattern.parserstate;
 
+import com.github.richardjwild.randomizer.types.pattern.Alphabet;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternBuilder;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
 
 import static com.github.richardjwild.randomizer.localization.Messages.UNEXPECTED_PATTERN_END_WANTED_CHARACTER;
+import static com.github.richardjwild.randomizer.types.pattern.StringPatternBuilder.MAX_UNBOUNDED_REPEAT;
 import static com.github.richardjwild.randomizer.types.pattern.StringPatternParser.exception;
 
 public class DefineLiteralPatternState extends ParserState {
@@ -17,17 +19,45 @@ public class DefineLiteralPatternState extends ParserState {
         switch (c) {
             case '\\':
                 char next = parser.lookAhead(1).orElseThrow(exception(UNEXPECTED_PATTERN_END_WANTED_CHARACTER));
-                builder.addSingleCharacterElement(next);
+                addEscapedCharacter(next);
                 parser.skip(1);
                 return this;
             case '[':
                 return new DefineCharacterRangeState(parser, builder);
+            case '(':
+                builder.startGroup();
+                return this;
+            case '|':
+                builder.addAlternative();
+                return this;
+            case ')':
+                builder.endGroup();
+                return this;
+            case '?':
+                builder.repeatLast(0, 1, "?");
+                return this;
+            case '*':
+                builder.repeatLast(0, MAX_UNBOUNDED_REPEAT, "*");
+                return this;
+            case '+':
+                builder.repeatLast(1, MAX_UNBOUNDED_REPEAT, "+");
+                return this;
+            case '{':
+                return new DefineRangeLengthState(parser, builder);
             default:
                 builder.addSingleCharacterElement(c);
                 return this;
         }
     }
 
+    private void addEscapedCharacter(char c) {
+        Alphabet shorthand = shorthandCharacterClass(c);
+        if (shorthand == null)
+            builder.addSingleCharacterElement(c);
+        else
+            builder.addCharacterClass(shorthand);
+    }
+
     @Override
     public void patternEnded() {
         // nothing needs be done here
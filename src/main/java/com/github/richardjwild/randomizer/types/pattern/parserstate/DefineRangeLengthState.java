@@ -4,30 +4,22 @@ import com.github.richardjwild.randomizer.types.pattern.StringPatternBuilder;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParserException;
 
-import java.util.List;
-
 import static com.github.richardjwild.randomizer.localization.Messages.*;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.format;
 
 public class DefineRangeLengthState extends ParserState {
 
-    private final List<Character> permittedCharacters;
     private final StringBuilder lengthDefinition = new StringBuilder();
 
-    public DefineRangeLengthState(
-            StringPatternParser parser,
-            StringPatternBuilder builder,
-            List<Character> permittedCharacters)
-    {
+    public DefineRangeLengthState(StringPatternParser parser, StringPatternBuilder builder) {
         super(parser, builder);
-        this.permittedCharacters = permittedCharacters;
     }
 
     @Override
     public ParserState handleCharacter(char c) {
         if (c == '}') {
-            addStringPatternElement(lengthDefinition.toString());
+            repeatLastElement(lengthDefinition.toString());
             return new DefineLiteralPatternState(parser, builder);
         } else {
             lengthDefinition.append(c);
@@ -42,17 +34,18 @@ public class DefineRangeLengthState extends ParserState {
                 : UNEXPECTED_PATTERN_END_WANTED_NUMBER_COMMA_CLOSECURLYBRACE);
     }
 
-    private void addStringPatternElement(String lengthDefinition) {
+    private void repeatLastElement(String lengthDefinition) {
+        String quantifier = "{" + lengthDefinition + "}";
         String[] parts = lengthDefinition.split(",");
         if (parts.length == 1) {
             if (lengthDefinition.endsWith(","))
                 throw new StringPatternParserException(MISSING_VALUE_IN_LENGTH_DEFINITION);
             int length = readInt(parts[0]);
-            builder.addFixedLengthElement(length, permittedCharacters);
+            builder.repeatLast(length, length, quantifier);
         } else if (parts.length == 2) {
             int minLength = readInt(parts[0]);
             int maxLength = readInt(parts[1]);
-            builder.addRandomLengthElement(minLength, maxLength, permittedCharacters);
+            builder.repeatLast(minLength, maxLength, quantifier);
         } else {
             throw new StringPatternParserException(
                     TOO_MANY_FIELDS_IN_LENGTH_DEFINITION,
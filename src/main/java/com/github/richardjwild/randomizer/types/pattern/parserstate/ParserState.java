@@ -1,10 +1,16 @@
 package com.github.richardjwild.randomizer.types.pattern.parserstate;
 
+import com.github.richardjwild.randomizer.types.pattern.Alphabet;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternBuilder;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParser;
 
 public abstract class ParserState {
 
+    private static final Alphabet DIGITS = Alphabet.range('0', '9');
+    private static final Alphabet WORD_CHARACTERS = new Alphabet.Builder()
+            .addRange('a', 'z').addRange('A', 'Z').addRange('0', '9').add('_').build();
+    private static final Alphabet WHITESPACE = Alphabet.of(' ', '\t', '\n', '\u000B', '\f', '\r');
+
     protected final StringPatternParser parser;
     protected final StringPatternBuilder builder;
 
@@ -16,4 +22,22 @@ public abstract class ParserState {
     public abstract ParserState handleCharacter(char c);
 
     public abstract void patternEnded();
+
+    /**
+     * Gets the characters that an escape sequence such as <code>\d</code> stands for, as in a regular expression.
+     * @param c The character after the backslash.
+     * @return The characters, or <code>null</code> if the escape sequence stands for the character itself.
+     */
+    protected static Alphabet shorthandCharacterClass(char c) {
+        switch (c) {
+            case 'd':
+                return DIGITS;
+            case 'w':
+                return WORD_CHARACTERS;
+            case 's':
+                return WHITESPACE;
+            default:
+                return null;
+        }
+    }
 }
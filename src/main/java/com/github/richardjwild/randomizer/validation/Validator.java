@@ -6,8 +6,8 @@ import java.util.function.Supplier;
 
 public class Validator {
 
-    public static void check(Supplier<Boolean> failureCondition, String messageKey) {
+    public static void check(Supplier<Boolean> failureCondition, String messageKey, String... argumentValues) {
         if (failureCondition.get())
-            throw new IllegalArgumentException(Messages.getMessage(messageKey));
+            throw new IllegalArgumentException(Messages.getMessage(messageKey, argumentValues));
     }
 }
@@ -1,14 +1,28 @@
 package com.github.richardjwild.randomizer;
 
+import com.github.richardjwild.randomizer.engine.RandomEngines;
 import com.github.richardjwild.randomizer.types.*;
 import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertNotNull;
@@ -23,6 +37,11 @@ public class RandomizerShould {
         Locale.setDefault(Locale.ENGLISH);
     }
 
+    @After
+    public void tearDown() {
+        Randomizer.clearGlobalSeed();
+    }
+
     @Test
     public void reject_null_type() {
         thrown.expect(IllegalArgumentException.class);
@@ -92,4 +111,224 @@ public class RandomizerShould {
         assertNotNull(actual);
         assertThat(actual).isInstanceOf(BooleanRandomizer.class);
     }
+
+    @Test
+    public void return_randomizers_for_primitive_types() {
+        assertThat(Randomizer.forType(int.class)).isInstanceOf(IntegerRandomizer.class);
+        assertThat(Randomizer.forType(long.class)).isInstanceOf(LongRandomizer.class);
+        assertThat(Randomizer.forType(double.class)).isInstanceOf(DoubleRandomizer.class);
+        assertThat(Randomizer.forType(float.class)).isInstanceOf(FloatRandomizer.class);
+        assertThat(Randomizer.forType(char.class)).isInstanceOf(CharacterRandomizer.class);
+        assertThat(Randomizer.forType(boolean.class)).isInstanceOf(BooleanRandomizer.class);
+    }
+
+    @Test
+    public void return_a_new_randomizer_each_time() {
+        assertThat(Randomizer.forType(Integer.class)).isNotSameAs(Randomizer.forType(Integer.class));
+    }
+
+    @Test
+    public void return_a_randomizer_discovered_by_the_service_loader() {
+        Object actual = Randomizer.forType(UUID.class);
+        assertThat(actual).isInstanceOf(UuidRandomizer.class);
+        assertThat(Randomizer.forType(UUID.class).value()).isNotNull();
+    }
+
+    @Test
+    public void return_a_registered_randomizer() {
+        class Point {
+        }
+        Randomizer.register(Point.class, () -> new Randomizer<Point>() {
+            @Override
+            public Point value() {
+                return new Point();
+            }
+        });
+        assertThat(Randomizer.forType(Point.class).value()).isInstanceOf(Point.class);
+    }
+
+    @Test
+    public void reject_registration_for_null_type() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Type cannot be null");
+        Randomizer.register(null, IntegerRandomizer::new);
+    }
+
+    @Test
+    public void return_the_requested_number_of_values() {
+        List<Integer> values = Randomizer.forType(Integer.class).values(100);
+        assertThat(values).hasSize(100);
+        assertThat(values).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void return_the_requested_number_of_values_in_an_array() {
+        Boolean[] values = Randomizer.forType(Boolean.class).values(10, Boolean[]::new);
+        assertThat(values).hasSize(10);
+        assertThat(values).containsOnly(true, false);
+    }
+
+    @Test
+    public void return_no_values_when_zero_are_requested() {
+        assertThat(Randomizer.forType(Integer.class).values(0)).isEmpty();
+    }
+
+    @Test
+    public void reject_a_negative_count_of_values() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Count must not be negative");
+        Randomizer.forType(Integer.class).values(-1);
+    }
+
+    @Test
+    public void iterate_over_random_values() {
+        Iterator<Double> values = Randomizer.forType(Double.class).iterator();
+        for (int i = 0; i < 10; i++) {
+            assertThat(values.hasNext()).isTrue();
+            assertThat(values.next()).isNotNull();
+        }
+    }
+
+    @Test
+    public void generate_values_with_the_selected_engine() {
+        for (RandomEngines engine : RandomEngines.values()) {
+            String value = Randomizer.forType(String.class).engine(engine).pattern("[a-z]{5}").value();
+            assertThat(value).matches("[a-z]{5}");
+        }
+    }
+
+    @Test
+    public void generate_values_with_a_custom_engine() {
+        AtomicLong draws = new AtomicLong();
+        Integer value = Randomizer.forType(Integer.class).engine(seed -> draws::incrementAndGet).min(10).max(20).value();
+        assertThat(value).isGreaterThanOrEqualTo(10).isLessThanOrEqualTo(20);
+        assertThat(draws.get()).isGreaterThan(0);
+    }
+
+    private static final Class<?>[] ALL_TYPES = {
+            String.class, Date.class, Integer.class, Long.class, Double.class, Float.class, Character.class,
+            Boolean.class, BigDecimal.class
+    };
+
+    private static Randomizer<?> randomizerFor(Class<?> type) {
+        Randomizer<?> randomizer = Randomizer.forType(type);
+        return (type == String.class) ? randomizer.pattern("[a-zA-Z0-9]{1,20}@[a-z]{5}\\.com") : randomizer;
+    }
+
+    @Test
+    public void generate_identical_values_from_identical_seeds_for_every_type() {
+        for (Class<?> type : ALL_TYPES) {
+            List<?> first = randomizerFor(type).seed(42).values(100);
+            List<?> second = randomizerFor(type).seed(42).values(100);
+            assertThat(second).isEqualTo(first);
+        }
+    }
+
+    @Test
+    public void generate_different_values_from_different_seeds() {
+        List<Long> first = Randomizer.forType(Long.class).seed(1).values(10);
+        List<Long> second = Randomizer.forType(Long.class).seed(2).values(10);
+        assertThat(second).isNotEqualTo(first);
+    }
+
+    @Test
+    public void generate_identical_values_with_the_same_seed_and_engine() {
+        for (RandomEngines engine : new RandomEngines[]{RandomEngines.SPLITTABLE, RandomEngines.JAVA_UTIL_RANDOM}) {
+            List<Integer> first = Randomizer.forType(Integer.class).engine(engine).seed(7).values(100);
+            List<Integer> second = Randomizer.forType(Integer.class).seed(7).engine(engine).values(100);
+            assertThat(second).isEqualTo(first);
+        }
+    }
+
+    @Test
+    public void generate_identical_values_from_identical_global_seeds() {
+        Randomizer.setGlobalSeed(1234);
+        List<?> firstStrings = randomizerFor(String.class).values(10);
+        List<?> firstDecimals = randomizerFor(BigDecimal.class).values(10);
+        Randomizer.setGlobalSeed(1234);
+        List<?> secondStrings = randomizerFor(String.class).values(10);
+        List<?> secondDecimals = randomizerFor(BigDecimal.class).values(10);
+        assertThat(secondStrings).isEqualTo(firstStrings);
+        assertThat(secondDecimals).isEqualTo(firstDecimals);
+    }
+
+    @Test
+    public void generate_the_same_values_from_a_compiled_generator_on_the_compiling_thread() {
+        List<String> expected = Randomizer.forType(String.class).seed(99).length(8).values(10);
+        Generator<String> generator = Randomizer.forType(String.class).seed(99).length(8).compile();
+        for (String value : expected)
+            assertThat(generator.next()).isEqualTo(value);
+    }
+
+    @Test
+    public void share_a_compiled_generator_between_threads() throws Exception {
+        Generator<Integer> generator = Randomizer.forType(Integer.class).min(10).max(20).seed(99).compile();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Set<Integer>>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++)
+                results.add(executor.submit(() -> {
+                    Set<Integer> values = new HashSet<>();
+                    for (int i = 0; i < 10000; i++)
+                        values.add(generator.next());
+                    return values;
+                }));
+            for (Future<Set<Integer>> result : results)
+                for (int value : result.get())
+                    assertThat(value).isGreaterThanOrEqualTo(10).isLessThanOrEqualTo(20);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void give_each_thread_its_own_sequence_of_values() throws Exception {
+        Generator<Long> generator = Randomizer.forType(Long.class).seed(99).compile();
+        List<Long> ownValues = Arrays.asList(generator.next(), generator.next(), generator.next());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Long> otherValues = executor.submit(
+                    () -> Arrays.asList(generator.next(), generator.next(), generator.next())).get();
+            assertThat(otherValues).isNotEqualTo(ownValues);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void generate_the_whole_sequence_across_all_its_shards() {
+        List<String> whole = Randomizer.forType(String.class).pattern("[a-z]{3,8}").seed(5).shard(0, 1).values(30);
+        List<List<String>> shards = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++)
+            shards.add(Randomizer.forType(String.class).pattern("[a-z]{3,8}").seed(5).shard(shard, 3).values(10));
+        for (int i = 0; i < 30; i++)
+            assertThat(shards.get(i % 3).get(i / 3)).isEqualTo(whole.get(i));
+    }
+
+    @Test
+    public void fill_an_array_with_the_values_of_a_shard() {
+        IntegerRandomizer sharded = new IntegerRandomizer().min(1).max(1000);
+        sharded.seed(5).shard(1, 2);
+        IntegerRandomizer whole = new IntegerRandomizer().min(1).max(1000);
+        whole.seed(5).shard(0, 1);
+        int[] shard = sharded.fill(new int[50]);
+        int[] values = whole.fill(new int[100]);
+        for (int i = 0; i < 50; i++)
+            assertThat(shard[i]).isEqualTo(values[2 * i + 1]);
+    }
+
+    @Test
+    public void restart_a_shard_when_it_is_seeded_again() {
+        Randomizer<Long> randomizer = Randomizer.forType(Long.class).seed(5).shard(2, 4);
+        List<Long> first = randomizer.values(5);
+        assertThat(randomizer.seed(5).values(5)).isEqualTo(first);
+    }
+
+    @Test
+    public void reject_a_shard_index_that_is_not_less_than_the_shard_count() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage(
+                "Shard count must be greater than zero, and shard index at least zero and less than the count");
+        Randomizer.forType(Integer.class).shard(3, 3);
+    }
 }
@@ -0,0 +1,11 @@
+package com.github.richardjwild.randomizer;
+
+import java.util.UUID;
+
+public class UuidRandomizer extends Randomizer<UUID> {
+
+    @Override
+    public UUID value() {
+        return logged(new UUID(random.nextLong(), random.nextLong()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.richardjwild.randomizer;
+
+import java.util.UUID;
+
+public class UuidRandomizerProvider implements RandomizerProvider<UUID> {
+
+    @Override
+    public Class<UUID> type() {
+        return UUID.class;
+    }
+
+    @Override
+    public Randomizer<UUID> create() {
+        return new UuidRandomizer();
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.richardjwild.randomizer.dataset;
+
+import com.github.richardjwild.randomizer.types.DateRandomizer;
+import com.github.richardjwild.randomizer.types.DoubleRandomizer;
+import com.github.richardjwild.randomizer.types.IntegerRandomizer;
+import com.github.richardjwild.randomizer.types.LongRandomizer;
+import com.github.richardjwild.randomizer.types.StringRandomizer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class DatasetWriterShould {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Path directory;
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+        directory = folder.getRoot().toPath().resolve("dataset");
+    }
+
+    @Test
+    public void write_a_column_file_for_every_column() throws IOException {
+        new DatasetWriter(directory)
+                .column("id", new IntegerRandomizer().min(1).max(100))
+                .column("total", new LongRandomizer().min(-5L).max(5L))
+                .column("price", new DoubleRandomizer().min(0.0).max(1.0))
+                .column("created", new DateRandomizer().min(new Date(1000)).max(new Date(2000)))
+                .column("code", new StringRandomizer().pattern("[A-Z]{3}[0-9]{4}"))
+                .write(10_000);
+
+        MappedColumn ids = MappedColumn.open(directory.resolve("id.col"));
+        MappedColumn totals = MappedColumn.open(directory.resolve("total.col"));
+        MappedColumn prices = MappedColumn.open(directory.resolve("price.col"));
+        MappedColumn created = MappedColumn.open(directory.resolve("created.col"));
+        MappedColumn codes = MappedColumn.open(directory.resolve("code.col"));
+        assertThat(codes.type()).isEqualTo(ColumnType.STRING);
+        assertThat(codes.width()).isEqualTo(14);
+        for (long row = 0; row < 10_000; row++) {
+            assertThat(ids.intAt(row)).isGreaterThanOrEqualTo(1).isLessThanOrEqualTo(100);
+            assertThat(totals.longAt(row)).isGreaterThanOrEqualTo(-5L).isLessThanOrEqualTo(5L);
+            assertThat(prices.doubleAt(row)).isGreaterThanOrEqualTo(0.0).isLessThanOrEqualTo(1.0);
+            assertThat(created.millisAt(row)).isGreaterThanOrEqualTo(1000L).isLessThanOrEqualTo(2000L);
+            assertThat(codes.stringAt(row)).matches("[A-Z]{3}[0-9]{4}");
+        }
+    }
+
+    @Test
+    public void write_a_little_endian_header_followed_by_the_values() throws IOException {
+        new DatasetWriter(directory).column("id", new LongRandomizer().min(7L).max(7L)).write(3);
+
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(directory.resolve("id.col")))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(file.remaining()).isEqualTo(32 + 3 * 8);
+        assertThat(new String(file.array(), 0, 4, "US-ASCII")).isEqualTo("RCOL");
+        file.position(4);
+        assertThat(file.getInt()).isEqualTo(1);
+        assertThat(file.getInt()).isEqualTo(ColumnType.LONG.code);
+        assertThat(file.getInt()).isEqualTo(8);
+        assertThat(file.getLong()).isEqualTo(3L);
+        assertThat(file.getLong()).isEqualTo(0L);
+        for (int row = 0; row < 3; row++)
+            assertThat(file.getLong()).isEqualTo(7L);
+    }
+
+    @Test
+    public void write_the_same_values_as_the_randomizer_would_fill_an_array_with() throws IOException {
+        IntegerRandomizer seeded = new IntegerRandomizer();
+        seeded.seed(42);
+        int[] expected = seeded.fill(new int[10_000]);
+        IntegerRandomizer randomizer = new IntegerRandomizer();
+        randomizer.seed(42);
+        new DatasetWriter(directory, 4096).column("value", randomizer).write(10_000);
+
+        MappedColumn column = MappedColumn.open(directory.resolve("value.col"), 4096);
+        assertThat(column.segmentCount()).isEqualTo(10);
+        assertThat(column.rowsPerSegment()).isEqualTo(1024L);
+        for (int row = 0; row < 10_000; row++)
+            assertThat(column.intAt(row)).isEqualTo(expected[row]);
+    }
+
+    @Test
+    public void write_an_empty_column() throws IOException {
+        new DatasetWriter(directory).column("empty", new DoubleRandomizer()).write(0);
+
+        MappedColumn column = MappedColumn.open(directory.resolve("empty.col"));
+        assertThat(column.rowCount()).isEqualTo(0L);
+        assertThat(column.segmentCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void read_a_segment_as_a_buffer() throws IOException {
+        new DatasetWriter(directory).column("code", new StringRandomizer().length(4).minChar('a').maxChar('z'))
+                .write(100);
+
+        MappedColumn column = MappedColumn.open(directory.resolve("code.col"));
+        ByteBuffer segment = column.segment(0);
+        assertThat(segment.isReadOnly()).isTrue();
+        assertThat(segment.remaining()).isEqualTo(800);
+        StringBuilder first = new StringBuilder();
+        for (int i = 0; i < 4; i++)
+            first.append(segment.getChar());
+        assertThat(first.toString()).isEqualTo(column.stringAt(0));
+    }
+
+    @Test
+    public void reject_a_string_column_whose_strings_vary_in_length() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("String column must have a fixed length: name");
+        new DatasetWriter(directory).column("name", new StringRandomizer().maxLength(10));
+    }
+
+    @Test
+    public void reject_a_string_column_whose_length_has_changed_since_it_was_added() throws IOException {
+        StringRandomizer randomizer = new StringRandomizer().length(8);
+        DatasetWriter writer = new DatasetWriter(directory).column("code", randomizer);
+        randomizer.length(12);
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("String column no longer has the length it was added with: code");
+        writer.write(10);
+    }
+
+    @Test
+    public void reject_a_column_name_that_is_already_used() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Column name already used: id");
+        new DatasetWriter(directory).column("id", new IntegerRandomizer()).column("id", new LongRandomizer());
+    }
+
+    @Test
+    public void reject_a_column_name_that_is_not_a_valid_file_name() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Invalid column name: ../id");
+        new DatasetWriter(directory).column("../id", new IntegerRandomizer());
+    }
+
+    @Test
+    public void reject_a_negative_number_of_rows() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        new DatasetWriter(directory).column("id", new IntegerRandomizer()).write(-1);
+    }
+
+    @Test
+    public void reject_a_file_that_is_not_a_column_file() throws IOException {
+        Path file = folder.newFile("other.col").toPath();
+        Files.write(file, new byte[64]);
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Not a column file");
+        MappedColumn.open(file);
+    }
+
+    @Test
+    public void reject_reading_a_value_of_the_wrong_type() throws IOException {
+        new DatasetWriter(directory).column("id", new IntegerRandomizer()).write(1);
+        MappedColumn column = MappedColumn.open(directory.resolve("id.col"));
+        thrown.expect(UnsupportedOperationException.class);
+        thrown.expectMessage("Column is of type INT, not LONG");
+        column.longAt(0);
+    }
+
+    @Test
+    public void reject_reading_a_row_that_does_not_exist() throws IOException {
+        new DatasetWriter(directory).column("id", new IntegerRandomizer()).write(5);
+        MappedColumn column = MappedColumn.open(directory.resolve("id.col"));
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Row 5 is out of range for a column of 5 rows");
+        column.intAt(5);
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.richardjwild.randomizer.distribution;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Locale;
+
+import static com.github.richardjwild.randomizer.engine.RandomEngines.XOROSHIRO;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Delta.delta;
+
+public class DistributionShould {
+
+    private static final int SAMPLES = 200_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RandomEngine random = XOROSHIRO.create(42);
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void draw_from_the_normal_distribution() {
+        Distribution.DoubleSampler sampler = Distribution.gaussian(10, 2).doubleSampler(-1e9, 1e9);
+        double sum = 0, sumOfSquares = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double value = sampler.nextDouble(random);
+            sum += value;
+            sumOfSquares += value * value;
+        }
+        double mean = sum / SAMPLES;
+        assertThat(mean).isEqualTo(10, delta(0.02));
+        assertThat(Math.sqrt(sumOfSquares / SAMPLES - mean * mean)).isEqualTo(2, delta(0.02));
+    }
+
+    @Test
+    public void draw_from_the_tails_of_the_normal_distribution_as_often_as_they_occur() {
+        Distribution.DoubleSampler sampler = Distribution.gaussian(0, 1).doubleSampler(-100, 100);
+        int beyondLastLayer = 0;
+        for (int i = 0; i < 1_000_000; i++)
+            if (Math.abs(sampler.nextDouble(random)) > 3.5)
+                beyondLastLayer++;
+        assertThat(beyondLastLayer).isGreaterThan(380).isLessThan(550);
+    }
+
+    @Test
+    public void draw_from_the_exponential_distribution() {
+        Distribution.DoubleSampler sampler = Distribution.exponential(3).doubleSampler(0, 1e9);
+        double sum = 0;
+        for (int i = 0; i < SAMPLES; i++)
+            sum += sampler.nextDouble(random);
+        assertThat(sum / SAMPLES).isEqualTo(3, delta(0.03));
+    }
+
+    @Test
+    public void draw_from_the_log_normal_distribution() {
+        Distribution.DoubleSampler sampler = Distribution.logNormal(2, 0.5).doubleSampler(0, 1e9);
+        int belowMedian = 0;
+        for (int i = 0; i < SAMPLES; i++)
+            if (sampler.nextDouble(random) < Math.exp(2))
+                belowMedian++;
+        assertThat((double) belowMedian / SAMPLES).isEqualTo(0.5, delta(0.005));
+    }
+
+    @Test
+    public void draw_from_the_poisson_distribution_with_a_small_mean() {
+        assertPoisson(3.5);
+    }
+
+    @Test
+    public void draw_from_the_poisson_distribution_with_a_large_mean() {
+        assertPoisson(1000);
+    }
+
+    @Test
+    public void draw_from_the_zipf_distribution_over_millions_of_values() {
+        Distribution.LongSampler sampler = Distribution.zipf(1.0).longSampler(1, 10_000_000);
+        int ones = 0, twos = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long value = sampler.nextLong(random);
+            assertThat(value).isGreaterThanOrEqualTo(1).isLessThanOrEqualTo(10_000_000);
+            if (value == 1)
+                ones++;
+            else if (value == 2)
+                twos++;
+        }
+        double harmonicNumber = Math.log(10_000_000) + 0.5772156649;
+        assertThat((double) ones / SAMPLES).isEqualTo(1 / harmonicNumber, delta(0.002));
+        assertThat((double) ones / twos).isEqualTo(2, delta(0.05));
+    }
+
+    @Test
+    public void rank_the_values_between_the_bounds_by_the_zipf_distribution() {
+        Distribution.LongSampler sampler = Distribution.zipf(2.0).longSampler(-5, 5);
+        int[] counts = new int[11];
+        for (int i = 0; i < SAMPLES; i++)
+            counts[(int) sampler.nextLong(random) + 5]++;
+        for (int i = 1; i < counts.length; i++)
+            assertThat(counts[i]).isLessThan(counts[i - 1]);
+    }
+
+    @Test
+    public void only_draw_values_between_the_bounds() {
+        Distribution.LongSampler sampler = Distribution.gaussian(0, 10).longSampler(-5, 5);
+        for (int i = 0; i < 10_000; i++)
+            assertThat(sampler.nextLong(random)).isGreaterThanOrEqualTo(-5).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    public void fail_when_the_distribution_has_no_values_between_the_bounds() {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("Could not draw a value between the minimum and maximum from the distribution: "
+                + "exponential(1.0)");
+        Distribution.exponential(1).doubleSampler(-2, -1).nextDouble(random);
+    }
+
+    @Test
+    public void reject_a_standard_deviation_that_is_not_positive() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The standard deviation of the distribution must be a finite number greater than zero, "
+                + "but was: 0.0");
+        Distribution.gaussian(0, 0);
+    }
+
+    @Test
+    public void reject_a_mean_that_is_not_finite() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The mean of the distribution must be a finite number, but was: NaN");
+        Distribution.gaussian(Double.NaN, 1);
+    }
+
+    @Test
+    public void draw_indices_from_an_alias_table_in_proportion_to_their_weights() {
+        AliasTable table = new AliasTable(new double[]{1, 0, 3, 4});
+        int[] counts = new int[table.size()];
+        for (int i = 0; i < SAMPLES; i++)
+            counts[table.next(random)]++;
+        assertThat((double) counts[0] / SAMPLES).isEqualTo(0.125, delta(0.005));
+        assertThat(counts[1]).isZero();
+        assertThat((double) counts[2] / SAMPLES).isEqualTo(0.375, delta(0.005));
+        assertThat((double) counts[3] / SAMPLES).isEqualTo(0.5, delta(0.005));
+    }
+
+    private void assertPoisson(double expectedMean) {
+        Distribution.LongSampler sampler = Distribution.poisson(expectedMean).longSampler(0, Long.MAX_VALUE);
+        double sum = 0, sumOfSquares = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long value = sampler.nextLong(random);
+            sum += value;
+            sumOfSquares += (double) value * value;
+        }
+        double mean = sum / SAMPLES;
+        assertThat(mean).isEqualTo(expectedMean, delta(expectedMean * 0.005));
+        assertThat(sumOfSquares / SAMPLES - mean * mean).isEqualTo(expectedMean, delta(expectedMean * 0.02));
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.richardjwild.randomizer.engine;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class RandomEnginesShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void return_bounded_values_from_every_engine() {
+        for (RandomEngines engines : RandomEngines.values()) {
+            RandomEngine engine = engines.create(42);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(engine.nextInt(7)).isGreaterThanOrEqualTo(0).isLessThan(7);
+                assertThat(engine.nextLong(1L << 40)).isGreaterThanOrEqualTo(0).isLessThan(1L << 40);
+                assertThat(engine.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+                assertThat(engine.nextFloat()).isGreaterThanOrEqualTo(0.0f).isLessThan(1.0f);
+            }
+        }
+    }
+
+    @Test
+    public void produce_the_same_sequence_from_the_same_seed() {
+        for (RandomEngines engines : new RandomEngines[]{
+                RandomEngines.XOROSHIRO, RandomEngines.SPLITTABLE, RandomEngines.JAVA_UTIL_RANDOM}) {
+            RandomEngine first = engines.create(1234);
+            RandomEngine second = engines.create(1234);
+            for (int i = 0; i < 100; i++)
+                assertThat(second.nextLong()).isEqualTo(first.nextLong());
+        }
+    }
+
+    @Test
+    public void produce_the_same_sequence_when_reseeded_as_when_created_with_the_seed() {
+        for (RandomEngines engines : new RandomEngines[]{
+                RandomEngines.XOROSHIRO, RandomEngines.SPLITTABLE, RandomEngines.JAVA_UTIL_RANDOM}) {
+            RandomEngine reseeded = engines.create(1);
+            reseeded.nextLong();
+            assertThat(reseeded.reseed(1234)).isTrue();
+            RandomEngine created = engines.create(1234);
+            for (int i = 0; i < 100; i++)
+                assertThat(reseeded.nextLong()).isEqualTo(created.nextLong());
+        }
+    }
+
+    @Test
+    public void produce_different_sequences_from_different_seeds() {
+        assertThat(RandomEngines.XOROSHIRO.create(1).nextLong())
+                .isNotEqualTo(RandomEngines.XOROSHIRO.create(2).nextLong());
+    }
+
+    @Test
+    public void spread_bounded_values_evenly() {
+        RandomEngine engine = RandomEngines.XOROSHIRO.create(99);
+        int[] counts = new int[3];
+        for (int i = 0; i < 30000; i++)
+            counts[engine.nextInt(3)]++;
+        for (int count : counts)
+            assertThat(count).isGreaterThan(9500).isLessThan(10500);
+    }
+
+    @Test
+    public void find_an_engine_by_name() {
+        assertThat(RandomEngines.named("splittable")).isEqualTo(RandomEngines.SPLITTABLE);
+    }
+
+    @Test
+    public void reject_an_unknown_engine_name() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("No random engine found with name: mersenne");
+        RandomEngines.named("mersenne");
+    }
+
+    @Test
+    public void reject_a_bound_of_zero() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Bound must be greater than zero");
+        RandomEngines.XOROSHIRO.create(0).nextInt(0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.richardjwild.randomizer.logging;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LoggingPolicyShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    private int countLogged(LoggingPolicy policy, int values) {
+        AtomicLong count = new AtomicLong();
+        int logged = 0;
+        for (int i = 0; i < values; i++)
+            if (policy.shouldLog(count))
+                logged++;
+        return logged;
+    }
+
+    @Test
+    public void log_every_value() {
+        assertThat(countLogged(LoggingPolicy.all(), 100)).isEqualTo(100);
+    }
+
+    @Test
+    public void log_no_values() {
+        assertThat(countLogged(LoggingPolicy.none(), 100)).isEqualTo(0);
+        assertThat(LoggingPolicy.none().logsAnything()).isFalse();
+    }
+
+    @Test
+    public void log_one_in_every_n_values() {
+        assertThat(countLogged(LoggingPolicy.everyNth(10), 100)).isEqualTo(10);
+    }
+
+    @Test
+    public void log_only_the_first_n_values() {
+        assertThat(countLogged(LoggingPolicy.firstN(3), 100)).isEqualTo(3);
+    }
+
+    @Test
+    public void parse_policies() {
+        assertThat(LoggingPolicy.parse("all")).isSameAs(LoggingPolicy.all());
+        assertThat(LoggingPolicy.parse("NONE")).isSameAs(LoggingPolicy.none());
+        assertThat(countLogged(LoggingPolicy.parse("every:5"), 100)).isEqualTo(20);
+        assertThat(countLogged(LoggingPolicy.parse("first:7"), 100)).isEqualTo(7);
+    }
+
+    @Test
+    public void reject_an_invalid_policy() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Invalid logging policy: every:x");
+        LoggingPolicy.parse("every:x");
+    }
+
+    @Test
+    public void reject_a_count_of_zero() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Logging policy count must be greater than zero");
+        LoggingPolicy.firstN(0);
+    }
+}
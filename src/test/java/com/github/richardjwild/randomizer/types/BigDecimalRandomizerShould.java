@@ -6,6 +6,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -54,6 +56,61 @@ public class BigDecimalRandomizerShould {
         assertThat(value.scale()).isEqualTo(3);
     }
 
+    @Test
+    public void return_every_BigDecimal_between_bounds_beyond_the_precision_of_a_double() {
+        BigDecimal minimum = new BigDecimal(1L << 60);
+        BigDecimal maximum = minimum.add(bd(3));
+        Set<BigDecimal> values = new HashSet<>(new BigDecimalRandomizer().min(minimum).max(maximum).values(1000));
+        assertThat(values).containsOnly(minimum, minimum.add(bd(1)), minimum.add(bd(2)), maximum);
+    }
+
+    @Test
+    public void return_exact_BigDecimals_whose_unscaled_values_do_not_fit_in_a_long() {
+        BigDecimal minimum = new BigDecimal("1000000000000000000000000000000");
+        BigDecimal maximum = new BigDecimal("1000000000000000000000000000002");
+        for (BigDecimal value : new BigDecimalRandomizer().min(minimum).max(maximum).scale(2).values(1000)) {
+            assertThat(value).isGreaterThanOrEqualTo(minimum).isLessThanOrEqualTo(maximum);
+            assertThat(value.scale()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void round_the_bounds_inwards_to_the_scale() {
+        BigDecimalRandomizer randomizer = new BigDecimalRandomizer()
+                .min(new BigDecimal("0.101")).max(new BigDecimal("0.129")).scale(2);
+        Set<BigDecimal> values = new HashSet<>(randomizer.values(1000));
+        assertThat(values).containsOnly(new BigDecimal("0.11"), new BigDecimal("0.12"));
+    }
+
+    @Test
+    public void fill_an_array_with_unscaled_values_between_min_and_max() {
+        long[] values = new BigDecimalRandomizer().min(BigDecimal.ZERO).max(new BigDecimal("99.99")).scale(2)
+                .fill(new long[1000]);
+        for (long value : values)
+            assertThat(value).isGreaterThanOrEqualTo(0).isLessThanOrEqualTo(9999);
+    }
+
+    @Test
+    public void reject_filling_unscaled_values_that_do_not_fit_in_a_long() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The unscaled values between the minimum and maximum do not all fit in a long");
+        new BigDecimalRandomizer().scale(2).fill(new long[10]);
+    }
+
+    @Test
+    public void reject_bounds_with_no_value_of_the_scale_between_them() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("No value of scale 1 lies between the minimum and maximum");
+        new BigDecimalRandomizer().min(new BigDecimal("0.11")).max(new BigDecimal("0.19")).scale(1).value();
+    }
+
+    @Test
+    public void reject_a_minimum_greater_than_the_maximum() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Minimum must be less than or equal to maximum");
+        new BigDecimalRandomizer().min(BigDecimal.TEN).max(BigDecimal.ONE).value();
+    }
+
     private BigDecimal bd(int value) {
         return new BigDecimal(value);
     }
@@ -5,6 +5,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.fest.assertions.Assertions.assertThat;
 
 public class BooleanRandomizerShould {
@@ -38,4 +41,13 @@ public class BooleanRandomizerShould {
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Boolean.class).min(someMin);
     }
+
+    @Test
+    public void return_both_primitive_boolean_values() {
+        BooleanRandomizer randomizer = new BooleanRandomizer();
+        Set<Boolean> values = new HashSet<>();
+        for (int i = 0; i < 100; i++)
+            values.add(randomizer.booleanValue());
+        assertThat(values).containsOnly(true, false);
+    }
 }
@@ -3,6 +3,11 @@ package com.github.richardjwild.randomizer.types;
 import com.github.richardjwild.randomizer.Randomizer;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.fest.assertions.Assertions.assertThat;
 
 public class CharacterRandomizerShould {
@@ -35,4 +40,37 @@ public class CharacterRandomizerShould {
         assertThat(value).isGreaterThanOrEqualTo(minimum);
         assertThat(value).isLessThanOrEqualTo(maximum);
     }
+
+    @Test
+    public void return_every_character_between_minimum_and_maximum_inclusive() {
+        CharacterRandomizer randomizer = new CharacterRandomizer().min('a').max('c');
+        Set<Character> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++)
+            values.add(randomizer.charValue());
+        assertThat(values).containsOnly('a', 'b', 'c');
+    }
+
+    @Test
+    public void fill_an_array_with_characters_between_minimum_and_maximum() {
+        char[] values = new CharacterRandomizer().min('0').max('9').fill(new char[1000]);
+        assertThat(new String(values)).matches("[0-9]{1000}");
+    }
+
+    @Test
+    public void fill_the_remainder_of_a_heap_buffer() {
+        CharBuffer buffer = CharBuffer.allocate(20);
+        buffer.put("prefix");
+        new CharacterRandomizer().min('a').max('z').fill(buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        buffer.flip();
+        assertThat(buffer.toString()).matches("prefix[a-z]{14}");
+    }
+
+    @Test
+    public void fill_a_direct_buffer() {
+        CharBuffer buffer = ByteBuffer.allocateDirect(40).asCharBuffer();
+        new CharacterRandomizer().min('a').max('z').fill(buffer);
+        buffer.flip();
+        assertThat(buffer.toString()).matches("[a-z]{20}");
+    }
 }
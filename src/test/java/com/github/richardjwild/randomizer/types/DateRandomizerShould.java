@@ -1,6 +1,7 @@
 package com.github.richardjwild.randomizer.types;
 
 import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.distribution.Distribution;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -45,12 +46,71 @@ public class DateRandomizerShould {
         assertThat(value.compareTo(maximum)).isLessThanOrEqualTo(0);
     }
 
+    @Test
+    public void return_many_dates_between_min_and_max() {
+        Date minimum = currentTimePlusOffset(-ONE_DAY);
+        Date maximum = currentTimePlusOffset(ONE_DAY);
+        Date[] values = Randomizer.forType(Date.class).min(minimum).max(maximum).values(100, Date[]::new);
+        assertThat(values).hasSize(100);
+        for (Date value : values) {
+            assertThat(value.compareTo(minimum)).isGreaterThanOrEqualTo(0);
+            assertThat(value.compareTo(maximum)).isLessThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    public void fill_an_array_with_milliseconds_between_min_and_max() {
+        Date minimum = currentTimePlusOffset(-ONE_DAY);
+        Date maximum = currentTimePlusOffset(ONE_DAY);
+        long[] values = new DateRandomizer().min(minimum).max(maximum).fill(new long[100]);
+        for (long value : values) {
+            assertThat(value).isGreaterThanOrEqualTo(minimum.getTime());
+            assertThat(value).isLessThanOrEqualTo(maximum.getTime());
+        }
+    }
+
+    @Test
+    public void return_the_maximum_millisecond_as_often_as_any_other() {
+        Date minimum = new Date(1_000_000_000_000L);
+        Date maximum = new Date(minimum.getTime() + 1);
+        long[] values = new DateRandomizer().min(minimum).max(maximum).fill(new long[1000]);
+        int maximums = 0;
+        for (long value : values)
+            if (value == maximum.getTime())
+                maximums++;
+        assertThat(maximums).isGreaterThan(400).isLessThan(600);
+    }
+
+    @Test
+    public void throw_exception_when_min_is_greater_than_max() {
+        Date minimum = currentTimePlusOffset(ONE_DAY);
+        Date maximum = currentTimePlusOffset(-ONE_DAY);
+        thrown.expect(IllegalArgumentException.class);
+        Randomizer.forType(Date.class).min(minimum).max(maximum).value();
+    }
+
     @Test
     public void not_support_length() {
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Date.class).length(1);
     }
 
+    @Test
+    public void make_the_minimum_the_most_frequent_date_by_the_zipf_distribution() {
+        Date minimum = currentTimePlusOffset(-ONE_DAY);
+        Date maximum = currentTimePlusOffset(ONE_DAY);
+        long[] values = new DateRandomizer().min(minimum).max(maximum)
+                .distribution(Distribution.zipf(1.5))
+                .fill(new long[1000]);
+        int minimums = 0;
+        for (long value : values) {
+            assertThat(value).isGreaterThanOrEqualTo(minimum.getTime()).isLessThanOrEqualTo(maximum.getTime());
+            if (value == minimum.getTime())
+                minimums++;
+        }
+        assertThat(minimums).isGreaterThan(250);
+    }
+
     private Date currentTimePlusOffset(long offset) {
         Date date = new Date();
         date.setTime(date.getTime() + offset);
@@ -1,11 +1,15 @@
 package com.github.richardjwild.randomizer.types;
 
 import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.distribution.Distribution;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.function.DoubleSupplier;
+
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Delta.delta;
 
 public class DoubleRandomizerShould {
 
@@ -56,4 +60,42 @@ public class DoubleRandomizerShould {
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Double.class).length(anyLength);
     }
+
+    @Test
+    public void return_a_finite_double_when_unconstrained() {
+        for (int i = 0; i < 1000; i++)
+            assertThat(Double.isInfinite(new DoubleRandomizer().doubleValue())).isFalse();
+    }
+
+    @Test
+    public void supply_primitive_doubles_between_min_and_max() {
+        DoubleSupplier supplier = new DoubleRandomizer().min(-1.0).max(1.0).doubleSupplier();
+        for (int i = 0; i < 1000; i++)
+            assertThat(supplier.getAsDouble()).isGreaterThanOrEqualTo(-1.0).isLessThanOrEqualTo(1.0);
+    }
+
+    @Test
+    public void reject_a_minimum_greater_than_the_maximum() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Minimum must be less than or equal to maximum");
+        new DoubleRandomizer().min(1.0).max(0.0).doubleValue();
+    }
+
+    @Test
+    public void fill_an_array_with_doubles_between_min_and_max() {
+        double[] values = new DoubleRandomizer().min(-1.0).max(1.0).fill(new double[1000]);
+        for (double value : values)
+            assertThat(value).isGreaterThanOrEqualTo(-1.0).isLessThanOrEqualTo(1.0);
+    }
+
+    @Test
+    public void fill_an_array_with_doubles_from_a_distribution() {
+        double[] values = new DoubleRandomizer().min(0.0).max(1000.0)
+                .distribution(Distribution.gaussian(100, 1))
+                .fill(new double[10_000]);
+        double sum = 0;
+        for (double value : values)
+            sum += value;
+        assertThat(sum / values.length).isEqualTo(100, delta(0.1));
+    }
 }
@@ -0,0 +1,32 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class DurationRandomizerShould {
+
+    @Test
+    public void return_durations_between_min_and_max() {
+        Duration minimum = Duration.ofSeconds(-5), maximum = Duration.ofSeconds(5);
+        Randomizer<Duration> randomizer = Randomizer.forType(Duration.class).min(minimum).max(maximum);
+        for (int i = 0; i < 1000; i++) {
+            Duration value = randomizer.value();
+            assertThat(value.compareTo(minimum)).isGreaterThanOrEqualTo(0);
+            assertThat(value.compareTo(maximum)).isLessThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    public void fill_an_array_with_lengths_in_units_of_the_granularity() {
+        DurationRandomizer randomizer = new DurationRandomizer();
+        randomizer.min(Duration.ofMillis(1500)).max(Duration.ofMillis(2500)).granularity(ChronoUnit.SECONDS);
+        long[] values = randomizer.fill(new long[10]);
+        for (long value : values)
+            assertThat(value).isEqualTo(2);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class EnumRandomizerShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void return_every_constant_of_an_enum() {
+        Set<TimeUnit> units = EnumSet.noneOf(TimeUnit.class);
+        units.addAll(Randomizer.forType(TimeUnit.class).values(1000));
+        assertThat(units).isEqualTo(EnumSet.allOf(TimeUnit.class));
+    }
+
+    @Test
+    public void not_support_length() {
+        thrown.expect(UnsupportedOperationException.class);
+        Randomizer.forType(TimeUnit.class).length(1);
+    }
+}
@@ -56,4 +56,17 @@ public class FloatRandomizerShould {
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Float.class).length(anyLength);
     }
+
+    @Test
+    public void return_a_primitive_float_between_min_and_max() {
+        FloatRandomizer randomizer = new FloatRandomizer().min(-1.0f).max(1.0f);
+        for (int i = 0; i < 1000; i++)
+            assertThat(randomizer.floatValue()).isGreaterThanOrEqualTo(-1.0f).isLessThanOrEqualTo(1.0f);
+    }
+
+    @Test
+    public void return_a_finite_float_when_unconstrained() {
+        for (int i = 0; i < 1000; i++)
+            assertThat(Float.isInfinite(new FloatRandomizer().floatValue())).isFalse();
+    }
 }
@@ -0,0 +1,137 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class InstantRandomizerShould {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void return_an_instant() {
+        Instant value = Randomizer.forType(Instant.class).value();
+        assertThat(value).isNotNull();
+    }
+
+    @Test
+    public void return_instants_between_min_and_max() {
+        Instant maximum = START.plusSeconds(60);
+        Randomizer<Instant> randomizer = new InstantRandomizer().min(START).max(maximum);
+        for (int i = 0; i < 1000; i++) {
+            Instant value = randomizer.value();
+            assertThat(value.compareTo(START)).isGreaterThanOrEqualTo(0);
+            assertThat(value.compareTo(maximum)).isLessThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    public void return_whole_units_of_the_granularity() {
+        Randomizer<Instant> randomizer = new InstantRandomizer().granularity(ChronoUnit.SECONDS);
+        for (int i = 0; i < 100; i++)
+            assertThat(randomizer.value().getNano()).isEqualTo(0);
+    }
+
+    @Test
+    public void return_nanoseconds_when_the_granularity_is_nanos() {
+        Randomizer<Instant> randomizer = new InstantRandomizer().granularity(ChronoUnit.NANOS);
+        boolean anyNanos = false;
+        for (int i = 0; i < 100; i++)
+            anyNanos |= randomizer.value().getNano() % 1_000_000 != 0;
+        assertThat(anyNanos).isTrue();
+    }
+
+    @Test
+    public void round_the_bounds_inwards_to_the_granularity() {
+        Instant minimum = START.plusMillis(1);
+        Instant maximum = START.plusSeconds(2).minusMillis(1);
+        Instant value = new InstantRandomizer().min(minimum).max(maximum).granularity(ChronoUnit.SECONDS).value();
+        assertThat(value).isEqualTo(START.plusSeconds(1));
+    }
+
+    @Test
+    public void round_bounds_before_the_epoch_inwards_to_the_granularity() {
+        Instant minimum = Instant.parse("1969-12-30T12:00:00Z");
+        Instant maximum = Instant.parse("1969-12-31T12:00:00Z");
+        Instant value = new InstantRandomizer().min(minimum).max(maximum).granularity(ChronoUnit.DAYS).value();
+        assertThat(value).isEqualTo(Instant.parse("1969-12-31T00:00:00Z"));
+    }
+
+    @Test
+    public void fill_an_array_with_epoch_values_between_min_and_max() {
+        InstantRandomizer randomizer = new InstantRandomizer();
+        randomizer.min(START).max(START.plusSeconds(10));
+        long[] values = randomizer.fill(new long[1000]);
+        long minimum = START.toEpochMilli(), maximum = minimum + 10_000;
+        boolean[] seen = new boolean[10_001];
+        for (long value : values) {
+            assertThat(value).isGreaterThanOrEqualTo(minimum).isLessThanOrEqualTo(maximum);
+            seen[(int) (value - minimum)] = true;
+        }
+        int distinct = 0;
+        for (boolean s : seen)
+            distinct += s ? 1 : 0;
+        assertThat(distinct).isGreaterThan(900);
+    }
+
+    @Test
+    public void convert_epoch_values_to_instants() {
+        InstantRandomizer randomizer = new InstantRandomizer();
+        randomizer.granularity(ChronoUnit.NANOS);
+        assertThat(randomizer.fromEpochValue(-1)).isEqualTo(Instant.ofEpochSecond(-1, 999_999_999));
+        randomizer.granularity(ChronoUnit.DAYS);
+        assertThat(randomizer.fromEpochValue(2)).isEqualTo(Instant.parse("1970-01-03T00:00:00Z"));
+    }
+
+    @Test
+    public void return_the_same_epoch_value_from_the_supplier_as_the_instant() {
+        InstantRandomizer randomizer = new InstantRandomizer();
+        randomizer.min(START).max(START.plusSeconds(1)).granularity(ChronoUnit.NANOS);
+        long value = randomizer.epochSupplier().getAsLong();
+        assertThat(randomizer.fromEpochValue(value).getEpochSecond()).isEqualTo(START.getEpochSecond());
+    }
+
+    @Test
+    public void throw_exception_when_granularity_is_not_supported() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Granularity Hours is not supported");
+        new InstantRandomizer().granularity(ChronoUnit.HOURS).value();
+    }
+
+    @Test
+    public void throw_exception_when_no_value_of_the_granularity_lies_between_min_and_max() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("No value of granularity Seconds lies between the minimum and maximum");
+        new InstantRandomizer().min(START.plusMillis(1)).max(START.plusMillis(999)).granularity(ChronoUnit.SECONDS)
+                .value();
+    }
+
+    @Test
+    public void throw_exception_when_a_bound_is_too_far_from_the_epoch_for_the_granularity() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("is too far from the epoch to be counted in Nanos");
+        new InstantRandomizer().min(Instant.MIN).granularity(ChronoUnit.NANOS).value();
+    }
+
+    @Test
+    public void throw_exception_when_min_is_greater_than_max() {
+        thrown.expect(IllegalArgumentException.class);
+        new InstantRandomizer().min(START.plusSeconds(1)).max(START).value();
+    }
+}
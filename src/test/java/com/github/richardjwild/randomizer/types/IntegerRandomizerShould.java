@@ -1,10 +1,16 @@
 package com.github.richardjwild.randomizer.types;
 
 import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.distribution.Distribution;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
 import static org.fest.assertions.Assertions.assertThat;
 
 public class IntegerRandomizerShould {
@@ -50,10 +56,104 @@ public class IntegerRandomizerShould {
         assertThat(value).isLessThanOrEqualTo(maxValue);
     }
 
+    @Test
+    public void return_many_integers_between_min_and_max() {
+        int minValue = -10;
+        int maxValue = 10;
+        List<Integer> values = Randomizer.forType(Integer.class).min(minValue).max(maxValue).values(1000);
+        assertThat(values).hasSize(1000);
+        for (int value : values) {
+            assertThat(value).isGreaterThanOrEqualTo(minValue);
+            assertThat(value).isLessThanOrEqualTo(maxValue);
+        }
+    }
+
     @Test
     public void not_support_length() {
         int anyLength = 0;
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Integer.class).length(anyLength);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void return_every_integer_between_min_and_max_inclusive() {
+        Set<Integer> values = new HashSet<>(Randomizer.forType(Integer.class).min(1).max(3).values(1000));
+        assertThat(values).containsOnly(1, 2, 3);
+    }
+
+    @Test
+    public void return_an_integer_from_the_full_range() {
+        IntegerRandomizer randomizer = new IntegerRandomizer().min(Integer.MIN_VALUE).max(Integer.MAX_VALUE);
+        randomizer.seed(42);
+        boolean belowHalfOfMinimum = false, aboveHalfOfMaximum = false;
+        for (int i = 0; i < 1000; i++) {
+            int value = randomizer.intValue();
+            belowHalfOfMinimum |= value < Integer.MIN_VALUE / 2;
+            aboveHalfOfMaximum |= value > Integer.MAX_VALUE / 2;
+        }
+        assertThat(belowHalfOfMinimum).isTrue();
+        assertThat(aboveHalfOfMaximum).isTrue();
+    }
+
+    @Test
+    public void return_a_primitive_integer_between_min_and_max() {
+        IntegerRandomizer randomizer = new IntegerRandomizer().min(-5).max(5);
+        for (int i = 0; i < 1000; i++) {
+            int value = randomizer.intValue();
+            assertThat(value).isGreaterThanOrEqualTo(-5).isLessThanOrEqualTo(5);
+        }
+    }
+
+    @Test
+    public void supply_primitive_integers_between_min_and_max() {
+        IntSupplier supplier = new IntegerRandomizer().min(10).max(20).intSupplier();
+        for (int i = 0; i < 1000; i++)
+            assertThat(supplier.getAsInt()).isGreaterThanOrEqualTo(10).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    public void reject_a_minimum_greater_than_the_maximum() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Minimum must be less than or equal to maximum");
+        new IntegerRandomizer().min(10).max(9).intValue();
+    }
+
+    @Test
+    public void fill_an_array_with_integers_between_min_and_max() {
+        int[] values = new IntegerRandomizer().min(1).max(6).fill(new int[1000]);
+        for (int value : values)
+            assertThat(value).isGreaterThanOrEqualTo(1).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    public void fill_only_the_requested_part_of_an_array() {
+        int[] values = new IntegerRandomizer().min(1).max(6).fill(new int[10], 2, 8);
+        assertThat(values[0]).isZero();
+        assertThat(values[1]).isZero();
+        for (int i = 2; i < 8; i++)
+            assertThat(values[i]).isGreaterThanOrEqualTo(1);
+        assertThat(values[8]).isZero();
+        assertThat(values[9]).isZero();
+    }
+
+    @Test
+    public void reject_a_fill_range_outside_the_array() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Fill range must lie within the array");
+        new IntegerRandomizer().fill(new int[10], 5, 11);
+    }
+
+    @Test
+    public void fill_an_array_with_integers_from_a_distribution_between_min_and_max() {
+        int[] values = new IntegerRandomizer().min(2).max(8).distribution(Distribution.poisson(5)).fill(new int[1000]);
+        int twos = 0, fives = 0;
+        for (int value : values) {
+            assertThat(value).isGreaterThanOrEqualTo(2).isLessThanOrEqualTo(8);
+            if (value == 2)
+                twos++;
+            else if (value == 5)
+                fives++;
+        }
+        assertThat(fives).isGreaterThan(twos);
+    }
+}
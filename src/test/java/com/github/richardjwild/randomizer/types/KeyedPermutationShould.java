@@ -0,0 +1,42 @@
+package com.github.richardjwild.randomizer.types;
+
+import org.junit.Test;
+
+import static com.github.richardjwild.randomizer.engine.RandomEngines.XOROSHIRO;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class KeyedPermutationShould {
+
+    @Test
+    public void map_every_number_in_the_range_to_a_different_number_in_the_range() {
+        for (long size : new long[]{1, 2, 3, 5, 64, 1000, 4097}) {
+            KeyedPermutation permutation = new KeyedPermutation(size, XOROSHIRO.create(size));
+            boolean[] seen = new boolean[(int) size];
+            for (long value = 0; value < size; value++) {
+                int mapped = (int) permutation.apply(value);
+                assertThat(seen[mapped]).isFalse();
+                seen[mapped] = true;
+            }
+        }
+    }
+
+    @Test
+    public void be_determined_by_its_keys() {
+        KeyedPermutation first = new KeyedPermutation(1_000_000, XOROSHIRO.create(3));
+        KeyedPermutation second = new KeyedPermutation(1_000_000, XOROSHIRO.create(3));
+        KeyedPermutation third = new KeyedPermutation(1_000_000, XOROSHIRO.create(4));
+        boolean different = false;
+        for (long value = 0; value < 100; value++) {
+            assertThat(second.apply(value)).isEqualTo(first.apply(value));
+            different |= third.apply(value) != first.apply(value);
+        }
+        assertThat(different).isTrue();
+    }
+
+    @Test
+    public void permute_the_largest_range() {
+        KeyedPermutation permutation = new KeyedPermutation(KeyedPermutation.MAX_SIZE, XOROSHIRO.create(1));
+        for (long value = 0; value < 1000; value++)
+            assertThat(permutation.apply(value)).isGreaterThanOrEqualTo(0).isLessThan(KeyedPermutation.MAX_SIZE);
+    }
+}
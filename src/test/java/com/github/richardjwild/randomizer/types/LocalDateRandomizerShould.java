@@ -0,0 +1,51 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LocalDateRandomizerShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void return_dates_between_min_and_max() {
+        LocalDate minimum = LocalDate.of(1969, 12, 25), maximum = LocalDate.of(1970, 1, 5);
+        Randomizer<LocalDate> randomizer = Randomizer.forType(LocalDate.class).min(minimum).max(maximum);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate value = randomizer.value();
+            assertThat(value.isBefore(minimum)).isFalse();
+            assertThat(value.isAfter(maximum)).isFalse();
+        }
+    }
+
+    @Test
+    public void fill_an_array_with_epoch_days() {
+        LocalDateRandomizer randomizer = new LocalDateRandomizer();
+        randomizer.min(LocalDate.of(2024, 1, 1)).max(LocalDate.of(2024, 1, 1));
+        long[] values = randomizer.fill(new long[10]);
+        for (long value : values)
+            assertThat(value).isEqualTo(LocalDate.of(2024, 1, 1).toEpochDay());
+    }
+
+    @Test
+    public void throw_exception_when_granularity_is_not_days() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Granularity Seconds is not supported, was expecting one of: [Days]");
+        new LocalDateRandomizer().granularity(ChronoUnit.SECONDS).value();
+    }
+}
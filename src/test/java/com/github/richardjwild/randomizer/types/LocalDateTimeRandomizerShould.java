@@ -0,0 +1,33 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class LocalDateTimeRandomizerShould {
+
+    @Test
+    public void return_date_times_between_min_and_max() {
+        LocalDateTime minimum = LocalDateTime.of(2024, 1, 1, 9, 0), maximum = LocalDateTime.of(2024, 1, 1, 17, 0);
+        Randomizer<LocalDateTime> randomizer = Randomizer.forType(LocalDateTime.class).min(minimum).max(maximum);
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime value = randomizer.value();
+            assertThat(value.isBefore(minimum)).isFalse();
+            assertThat(value.isAfter(maximum)).isFalse();
+        }
+    }
+
+    @Test
+    public void count_epoch_values_as_if_in_utc() {
+        LocalDateTime value = LocalDateTime.of(2024, 1, 1, 9, 30, 15);
+        LocalDateTimeRandomizer randomizer = new LocalDateTimeRandomizer();
+        randomizer.min(value).max(value).granularity(ChronoUnit.SECONDS);
+        assertThat(randomizer.epochValue()).isEqualTo(value.toEpochSecond(ZoneOffset.UTC));
+        assertThat(randomizer.fromEpochValue(randomizer.epochValue())).isEqualTo(value);
+    }
+}
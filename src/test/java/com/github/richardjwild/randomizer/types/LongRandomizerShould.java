@@ -5,6 +5,10 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -58,4 +62,49 @@ public class LongRandomizerShould {
         thrown.expect(UnsupportedOperationException.class);
         Randomizer.forType(Long.class).length(anyLength);
     }
+
+    @Test
+    public void return_every_long_between_min_and_max_inclusive() {
+        Set<Long> values = new HashSet<>(Randomizer.forType(Long.class).min(1L).max(3L).values(1000));
+        assertThat(values).containsOnly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void return_a_primitive_long_from_a_range_wider_than_half_of_all_longs() {
+        LongRandomizer randomizer = new LongRandomizer().min(Long.MIN_VALUE + 1).max(Long.MAX_VALUE - 1);
+        for (int i = 0; i < 1000; i++) {
+            long value = randomizer.longValue();
+            assertTrue(value > Long.MIN_VALUE && value < Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void supply_primitive_longs_between_min_and_max() {
+        LongSupplier supplier = new LongRandomizer().min(-20L).max(-10L).longSupplier();
+        for (int i = 0; i < 1000; i++)
+            assertThat(supplier.getAsLong()).isGreaterThanOrEqualTo(-20L).isLessThanOrEqualTo(-10L);
+    }
+
+    @Test
+    public void reject_a_minimum_greater_than_the_maximum() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Minimum must be less than or equal to maximum");
+        new LongRandomizer().min(10L).max(9L).longValue();
+    }
+
+    @Test
+    public void fill_part_of_an_array_with_longs_between_min_and_max() {
+        long[] values = new LongRandomizer().min(100L).max(200L).fill(new long[100], 50, 100);
+        for (int i = 0; i < 50; i++)
+            assertThat(values[i]).isZero();
+        for (int i = 50; i < 100; i++)
+            assertThat(values[i]).isGreaterThanOrEqualTo(100L).isLessThanOrEqualTo(200L);
+    }
+
+    @Test
+    public void reject_a_fill_range_that_ends_before_it_starts() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Fill range must lie within the array");
+        new LongRandomizer().fill(new long[10], 6, 5);
+    }
 }
@@ -0,0 +1,228 @@
+package com.github.richardjwild.randomizer.types;
+
+import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.annotations.Ignore;
+import com.github.richardjwild.randomizer.annotations.Length;
+import com.github.richardjwild.randomizer.annotations.Max;
+import com.github.richardjwild.randomizer.annotations.Min;
+import com.github.richardjwild.randomizer.annotations.Pattern;
+import com.github.richardjwild.randomizer.validation.NoRandomizerFoundException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class ObjectRandomizerShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void populate_every_field_of_a_pojo() {
+        Customer customer = Randomizer.forType(Customer.class).value();
+        assertThat(customer.name).isNotNull();
+        assertThat(customer.balance).isNotNull();
+        assertThat(customer.joined).isNotNull();
+        assertThat(customer.unit).isNotNull();
+    }
+
+    @Test
+    public void populate_fields_within_the_constraints_of_their_annotations() {
+        for (Customer customer : Randomizer.forType(Customer.class).values(100)) {
+            assertThat(customer.name).matches("[A-Z]{1}[a-z]{2,9}");
+            assertThat(customer.age).isGreaterThanOrEqualTo(18).isLessThanOrEqualTo(65);
+            assertThat(customer.code).hasSize(6);
+            assertThat(customer.joined.getTime())
+                    .isGreaterThanOrEqualTo(Instant.parse("2000-01-01T00:00:00Z").toEpochMilli());
+        }
+    }
+
+    @Test
+    public void populate_java_time_fields_within_the_constraints_of_their_annotations() {
+        for (Event event : Randomizer.forType(Event.class).values(100)) {
+            assertThat(event.start.isBefore(Instant.parse("2020-01-01T00:00:00Z"))).isFalse();
+            assertThat(event.start.isAfter(Instant.parse("2020-12-31T00:00:00Z"))).isFalse();
+            assertThat(event.date.isBefore(LocalDate.parse("2020-01-01"))).isFalse();
+            assertThat(event.date.isAfter(LocalDate.parse("2020-01-31"))).isFalse();
+            assertThat(event.local.isBefore(LocalDateTime.parse("2020-01-01T09:00:00"))).isFalse();
+            assertThat(event.local.isAfter(LocalDateTime.parse("2020-01-01T17:00:00"))).isFalse();
+            assertThat(event.offset.isBefore(OffsetDateTime.parse("2020-01-01T00:00:00+01:00"))).isFalse();
+            assertThat(event.length.compareTo(Duration.parse("PT1H"))).isGreaterThanOrEqualTo(0);
+            assertThat(event.length.compareTo(Duration.parse("PT2H"))).isLessThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    public void leave_ignored_fields_and_fields_of_unsupported_types_with_their_default_values() {
+        Customer customer = Randomizer.forType(Customer.class).value();
+        assertThat(customer.notes).isNull();
+        assertThat(customer.orders).isNull();
+    }
+
+    @Test
+    public void populate_an_immutable_object_through_its_constructor() {
+        Address address = Randomizer.forType(Address.class).value();
+        assertThat(address.street).matches("[0-9]{1,3} [A-Z]{1}[a-z]{4,8} Street");
+        assertThat(address.floor).isGreaterThanOrEqualTo(0).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void populate_nested_objects() {
+        Order order = Randomizer.forType(Order.class).value();
+        assertThat(order.customer).isNotNull();
+        assertThat(order.customer.name).matches("[A-Z]{1}[a-z]{2,9}");
+        assertThat(order.deliverTo.street).matches("[0-9]{1,3} [A-Z]{1}[a-z]{4,8} Street");
+    }
+
+    @Test
+    public void leave_a_field_that_refers_back_to_an_object_being_populated_with_its_default_value() {
+        Node node = Randomizer.forType(Node.class).value();
+        assertThat(node.next).isNull();
+        assertThat(node.child.parent).isNull();
+    }
+
+    @Test
+    public void populate_a_field_with_the_randomizer_given_for_it() {
+        Randomizer<Customer> randomizer = Randomizer.forType(Customer.class)
+                .field("age", new IntegerRandomizer().min(100).max(100))
+                .field("notes", new StringRandomizer().length(3));
+        Customer customer = randomizer.value();
+        assertThat(customer.age).isEqualTo(100);
+        assertThat(customer.notes).hasSize(3);
+    }
+
+    @Test
+    public void leave_a_field_that_is_ignored_with_its_default_value() {
+        Customer customer = Randomizer.forType(Customer.class).ignore("age").ignore("name").value();
+        assertThat(customer.age).isEqualTo(0);
+        assertThat(customer.name).isNull();
+    }
+
+    @Test
+    public void generate_the_same_objects_from_the_same_seed() {
+        Randomizer<Order> first = Randomizer.forType(Order.class);
+        first.seed(42);
+        Randomizer<Order> second = Randomizer.forType(Order.class);
+        second.seed(42);
+        Order a = first.value(), b = second.value();
+        assertThat(a.customer.name).isEqualTo(b.customer.name);
+        assertThat(a.customer.balance).isEqualTo(b.customer.balance);
+        assertThat(a.deliverTo.street).isEqualTo(b.deliverTo.street);
+        assertThat(a.quantity).isEqualTo(b.quantity);
+    }
+
+    @Test
+    public void reject_a_field_that_does_not_exist() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("No such field: height");
+        Randomizer.forType(Customer.class).ignore("height");
+    }
+
+    @Test
+    public void reject_an_annotation_value_that_does_not_suit_the_field() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Invalid constraint for field size: large");
+        Randomizer.forType(Badly.class).value();
+    }
+
+    @Test
+    public void reject_a_class_that_it_cannot_create() {
+        thrown.expect(NoRandomizerFoundException.class);
+        thrown.expectMessage("No randomizer found for class: " + NoConstructor.class.getName());
+        Randomizer.forType(NoConstructor.class);
+    }
+
+    @Test
+    public void not_support_min() {
+        thrown.expect(UnsupportedOperationException.class);
+        Randomizer.forType(Customer.class).min(new Customer());
+    }
+
+    static class Customer {
+        @Pattern("[A-Z]{1}[a-z]{2,9}")
+        private String name;
+        @Min("18") @Max("65")
+        private int age;
+        @Length(6)
+        private String code;
+        private BigDecimal balance;
+        @Min("2000-01-01T00:00:00Z")
+        private Date joined;
+        private TimeUnit unit;
+        @Ignore
+        private String notes;
+        private List<Order> orders;
+    }
+
+    static class Event {
+        @Min("2020-01-01T00:00:00Z") @Max("2020-12-31T00:00:00Z")
+        private Instant start;
+        @Min("2020-01-01") @Max("2020-01-31")
+        private LocalDate date;
+        @Min("2020-01-01T09:00:00") @Max("2020-01-01T17:00:00")
+        private LocalDateTime local;
+        @Min("2020-01-01T00:00:00+01:00")
+        private OffsetDateTime offset;
+        @Min("PT1H") @Max("PT2H")
+        private Duration length;
+    }
+
+    static class Address {
+        @Pattern("[0-9]{1,3} [A-Z]{1}[a-z]{4,8} Street")
+        private final String street;
+        @Min("0") @Max("10")
+        private final int floor;
+
+        Address(String street, int floor) {
+            this.street = street;
+            this.floor = floor;
+        }
+    }
+
+    static class Order {
+        private Customer customer;
+        private Address deliverTo;
+        private long quantity;
+    }
+
+    static class Node {
+        private Node next;
+        private Child child;
+    }
+
+    static class Child {
+        private Node parent;
+        private boolean leaf;
+    }
+
+    static class Badly {
+        @Min("large")
+        private int size;
+    }
+
+    static class NoConstructor {
+        private final String value;
+
+        NoConstructor(int value) {
+            this.value = Integer.toString(value);
+        }
+    }
+}
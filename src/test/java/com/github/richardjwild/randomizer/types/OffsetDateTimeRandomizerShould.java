@@ -0,0 +1,25 @@
+package com.github.richardjwild.randomizer.types;
+
+import org.junit.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class OffsetDateTimeRandomizerShould {
+
+    @Test
+    public void return_date_times_between_min_and_max_at_the_offset() {
+        ZoneOffset offset = ZoneOffset.ofHours(2);
+        OffsetDateTime minimum = OffsetDateTime.of(2024, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime maximum = minimum.plusHours(1);
+        OffsetDateTimeRandomizer randomizer = new OffsetDateTimeRandomizer().offset(offset).min(minimum).max(maximum);
+        for (int i = 0; i < 1000; i++) {
+            OffsetDateTime value = randomizer.value();
+            assertThat(value.getOffset()).isEqualTo(offset);
+            assertThat(value.isBefore(minimum)).isFalse();
+            assertThat(value.isAfter(maximum)).isFalse();
+        }
+    }
+}
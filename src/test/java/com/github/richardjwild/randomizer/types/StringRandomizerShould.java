@@ -1,6 +1,8 @@
 package com.github.richardjwild.randomizer.types;
 
+import com.github.richardjwild.randomizer.Generator;
 import com.github.richardjwild.randomizer.Randomizer;
+import com.github.richardjwild.randomizer.types.pattern.Alphabet;
 import com.github.richardjwild.randomizer.types.pattern.StringPatternParserException;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -8,10 +10,23 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Delta.delta;
 import static org.junit.Assert.assertEquals;
 
 public class StringRandomizerShould {
@@ -183,6 +198,12 @@ public class StringRandomizerShould {
         }
     }
 
+    @Test
+    public void return_a_string_of_a_single_repeated_character_when_min_char_equals_max_char() {
+        String value = testObj.minChar('a').maxChar('a').length(3).value();
+        assertThat(value).isEqualTo("aaa");
+    }
+
     @Test
     public void return_value_matching_pattern_single_literal_character() {
         String value = testObj.pattern("a").value();
@@ -235,6 +256,19 @@ public class StringRandomizerShould {
         assertThat("abc").contains(value);
     }
 
+    @Test
+    public void return_value_matching_pattern_with_single_character_range() {
+        String value = testObj.pattern("[a-a]{3}").value();
+        assertThat(value).isEqualTo("aaa");
+    }
+
+    @Test
+    public void return_value_matching_pattern_with_repeated_characters_in_set() {
+        String value = testObj.pattern("[aab]{20}").value();
+        assertEquals(20, value.length());
+        assertAllCharactersContainedIn("ab", value);
+    }
+
     @Test
     public void return_value_matching_pattern_sequence_length_more_than_1_digit() {
         String value = testObj.pattern("[a-c]{10}").value();
@@ -392,6 +426,118 @@ public class StringRandomizerShould {
         }
     }
 
+    @Test
+    public void return_many_values_matching_pattern() {
+        List<String> values = testObj.pattern("[a-c]{3}-[0-9]{2}").values(1000);
+        assertThat(values).hasSize(1000);
+        for (String value : values)
+            assertThat(value).matches("[a-c]{3}-[0-9]{2}");
+    }
+
+    @Test
+    public void return_each_of_the_alternatives_in_a_group() {
+        Set<String> values = new HashSet<>(testObj.pattern("(cat|dog|bird)s?").values(500));
+        assertThat(values).containsOnly("cat", "dog", "bird", "cats", "dogs", "birds");
+    }
+
+    @Test
+    public void return_pattern_with_optional_and_repeated_elements() {
+        for (String value : testObj.pattern("[a-z]{2}(-[0-9]{2})?x+y*z{3}").values(1000))
+            assertThat(value).matches("[a-z]{2}(-[0-9]{2})?x{1,16}y{0,16}zzz");
+    }
+
+    @Test
+    public void return_pattern_with_nested_groups_and_alternatives() {
+        for (String value : testObj.pattern("((ab|c){2,3}|d)e|[0-9]{4}").values(1000))
+            assertThat(value).matches("((ab|c){2,3}|d)e|[0-9]{4}");
+    }
+
+    @Test
+    public void return_pattern_with_shorthand_character_classes() {
+        for (String value : testObj.pattern("\\d{3}\\w{5}\\s[\\d_]{2}").values(1000))
+            assertThat(value).matches("\\d{3}\\w{5}\\s[\\d_]{2}");
+    }
+
+    @Test
+    public void return_pattern_with_negated_character_class() {
+        String value = testObj.pattern("[^a-y]{1000}").value();
+        for (char c : value.toCharArray())
+            assertThat(c < ' ' || (c >= 'a' && c <= 'y')).isFalse();
+    }
+
+    @Test
+    public void reject_pattern_with_unmatched_close_parenthesis() {
+        checkPatternParsing("a)", "Unexpected character ')' without a group to close");
+    }
+
+    @Test
+    public void reject_pattern_with_unclosed_group() {
+        checkPatternParsing("(a|b", "Unexpected end of pattern input, was expecting: ')'");
+    }
+
+    @Test
+    public void reject_pattern_with_nothing_to_repeat() {
+        checkPatternParsing("(*a)", "Nothing to repeat before: *");
+    }
+
+    @Test
+    public void reject_pattern_with_repeated_quantifier() {
+        checkPatternParsing("a{2}{3}", "Nothing to repeat before: {3}");
+    }
+
+    @Test
+    public void reject_pattern_with_minimum_length_greater_than_maximum() {
+        checkPatternParsing("[a-c]{3,1}", "Minimum greater than maximum in pattern length definition");
+    }
+
+    @Test
+    public void reject_pattern_with_empty_character_class() {
+        checkPatternParsing("[^ -\uFFFF]?", "Character class contains no characters");
+    }
+
+    @Test
+    public void validate_constraints_once_before_generating_many_values() {
+        checkValidation(() -> testObj.length(0).values(1000).get(0),
+                "Length must be greater than zero");
+    }
+
+    @Test
+    public void return_many_values_of_fixed_length_in_an_array() {
+        String[] values = testObj.length(5).values(100, String[]::new);
+        assertThat(values).hasSize(100);
+        for (String value : values)
+            assertThat(value).hasSize(5);
+    }
+
+    @Test
+    public void compile_a_generator_that_is_not_affected_by_later_constraints() {
+        Generator<String> generator = testObj.length(5).compile();
+        testObj.length(10);
+        for (int i = 0; i < 100; i++)
+            assertThat(generator.next()).hasSize(5);
+        assertThat(testObj.value()).hasSize(10);
+    }
+
+    @Test
+    public void validate_constraints_when_compiling_a_generator() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Length must be greater than zero");
+        testObj.length(0).compile();
+    }
+
+    @Test
+    public void return_a_value_of_the_minimum_length_when_it_equals_the_maximum_length() {
+        assertThat(testObj.minLength(4).maxLength(4).value()).hasSize(4);
+    }
+
+    @Test
+    public void return_values_of_every_length_up_to_and_including_the_maximum_length() {
+        Set<Integer> lengths = new HashSet<>();
+        for (String value : testObj.minLength(1).maxLength(3).values(1000))
+            lengths.add(value.length());
+        assertThat(lengths).containsOnly(1, 2, 3);
+    }
+
     @Ignore("Run this test to see the effect of various patterns")
     @Test
     public void return_random_strings_of_various_patterns() {
@@ -405,4 +551,283 @@ public class StringRandomizerShould {
         testObj.pattern("[a\\-c]{10}").value();
         testObj.pattern("[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}.com").value();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void fill_an_array_with_characters_between_min_char_and_max_char() {
+        char[] values = new StringRandomizer().minChar('a').maxChar('f').fill(new char[1000]);
+        assertThat(new String(values)).matches("[a-f]{1000}");
+    }
+
+    @Test
+    public void fill_a_buffer_with_characters_between_min_char_and_max_char() {
+        CharBuffer buffer = new StringRandomizer().minChar('A').maxChar('Z').fill(CharBuffer.allocate(100));
+        buffer.flip();
+        assertThat(buffer.toString()).matches("[A-Z]{100}");
+    }
+
+    @Test
+    public void reject_a_pattern_when_filling_characters() {
+        checkValidation(() -> new String(new StringRandomizer().pattern("[a-z]{5}").fill(new char[5])),
+                "A pattern cannot be used to fill an array or buffer with characters");
+    }
+
+    @Test
+    public void fill_the_characters_of_a_shard() {
+        StringRandomizer whole = new StringRandomizer().minChar('a').maxChar('z');
+        whole.seed(5).shard(0, 1);
+        char[] values = whole.fill(new char[300]);
+        for (int shard = 0; shard < 3; shard++) {
+            StringRandomizer sharded = new StringRandomizer().minChar('a').maxChar('z');
+            sharded.seed(5).shard(shard, 3);
+            char[] first = sharded.fill(new char[60]);
+            CharBuffer rest = sharded.fill(ByteBuffer.allocateDirect(80).asCharBuffer());
+            rest.flip();
+            for (int i = 0; i < 60; i++)
+                assertThat(first[i]).isEqualTo(values[3 * i + shard]);
+            for (int i = 0; i < 40; i++)
+                assertThat(rest.get(i)).isEqualTo(values[3 * (60 + i) + shard]);
+        }
+    }
+
+    @Test
+    public void write_the_same_characters_as_it_would_return() throws IOException {
+        String pattern = "[a-z]{5000,15000}-[0-9]{10000}";
+        String expected = new StringRandomizer().pattern(pattern).seed(7).value();
+        StringRandomizer randomizer = new StringRandomizer().pattern(pattern);
+        randomizer.seed(7);
+        StringBuilder written = new StringBuilder();
+        long count = randomizer.writeTo(written);
+        assertThat(written.toString()).isEqualTo(expected);
+        assertThat(count).isEqualTo(expected.length());
+    }
+
+    @Test
+    public void write_a_random_string_to_a_writer() throws IOException {
+        StringWriter writer = new StringWriter();
+        long count = new StringRandomizer().length(20000).minChar('a').maxChar('z').writeTo(writer);
+        assertThat(count).isEqualTo(20000);
+        assertThat(writer.toString()).matches("[a-z]{20000}");
+    }
+
+    @Test
+    public void write_an_encoded_random_string_to_a_channel() throws IOException {
+        String expected = new StringRandomizer().length(30000).minChar('\ud700').maxChar('\udfff').seed(7).value();
+        StringRandomizer randomizer = new StringRandomizer().length(30000).minChar('\ud700').maxChar('\udfff');
+        randomizer.seed(7);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long count = randomizer.writeTo(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+        assertThat(bytes.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        assertThat(count).isEqualTo(bytes.size());
+    }
+
+    @Test
+    public void know_the_length_of_its_strings_when_they_are_all_the_same_length() {
+        assertThat(new StringRandomizer().length(12).fixedLength().getAsInt()).isEqualTo(12);
+        assertThat(new StringRandomizer().pattern("[A-Z]{3}-[0-9]{4}").fixedLength().getAsInt()).isEqualTo(8);
+        assertThat(new StringRandomizer().maxLength(12).fixedLength().isPresent()).isFalse();
+        assertThat(new StringRandomizer().pattern("[A-Z]{3,4}").fixedLength().isPresent()).isFalse();
+    }
+
+    @Test
+    public void write_the_same_characters_into_an_array_as_it_would_return() {
+        String pattern = "[a-z]{5,15}-[0-9]{10}";
+        String expected = new StringRandomizer().pattern(pattern).seed(7).value();
+        StringRandomizer randomizer = new StringRandomizer().pattern(pattern);
+        randomizer.seed(7);
+        char[] destination = new char[40];
+        int count = randomizer.writeTo(destination, 4);
+        assertThat(new String(destination, 4, count)).isEqualTo(expected);
+    }
+
+    @Test
+    public void reject_an_array_that_a_string_might_not_fit_in() {
+        checkValidation(() -> Integer.toString(new StringRandomizer().maxLength(10).writeTo(new char[15], 6)),
+                "Fill range must lie within the array, and its start must not be after its end");
+    }
+
+    @Test
+    public void generate_every_string_of_a_pattern_once_in_unique_mode() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("[A-C]{2}[0-9]{1}").unique();
+        Set<String> values = new HashSet<>(randomizer.values(90));
+        assertThat(values).hasSize(90);
+        for (String value : values)
+            assertThat(value).matches("[A-C]{2}[0-9]{1}");
+    }
+
+    @Test
+    public void fail_when_every_unique_string_has_been_generated() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("(x|yz)[ab]{1,2}").unique();
+        assertThat(new HashSet<>(randomizer.values(12))).hasSize(12);
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("All 12 unique values have already been generated");
+        randomizer.value();
+    }
+
+    @Test
+    public void generate_the_same_unique_strings_with_the_same_seed() {
+        StringRandomizer first = new StringRandomizer().pattern("[A-Z]{3}[0-9]{6}").unique();
+        first.seed(11);
+        StringRandomizer second = new StringRandomizer().pattern("[A-Z]{3}[0-9]{6}").unique();
+        second.seed(11);
+        assertThat(first.values(1000)).isEqualTo(second.values(1000));
+    }
+
+    @Test
+    public void generate_different_unique_strings_in_each_shard_that_together_are_those_of_one_shard() {
+        List<String> whole = uniqueKeys().shard(0, 1).values(10);
+        List<String> first = uniqueKeys().shard(0, 2).values(5);
+        List<String> second = uniqueKeys().shard(1, 2).values(5);
+        List<String> interleaved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            interleaved.add(first.get(i));
+            interleaved.add(second.get(i));
+        }
+        assertThat(interleaved).isEqualTo(whole);
+        assertThat(new HashSet<>(interleaved)).hasSize(10);
+    }
+
+    @Test
+    public void walk_one_permutation_of_unique_strings_in_every_generator_without_changing_the_randomizer() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("[0-9]{2}").unique();
+        randomizer.seed(5);
+        Generator<String> first = randomizer.compile();
+        Generator<String> second = randomizer.compile();
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            values.add(first.next());
+            values.add(second.next());
+        }
+        assertThat(values).hasSize(100);
+        Randomizer<String> compiled = uniqueKeys();
+        compiled.compile();
+        assertThat(compiled.values(10)).isEqualTo(uniqueKeys().values(10));
+    }
+
+    private static Randomizer<String> uniqueKeys() {
+        return new StringRandomizer().pattern("[A-Z]{3}[0-9]{6}").unique().seed(42);
+    }
+
+    @Test
+    public void generate_and_stream_unique_strings_of_a_pattern_with_a_large_quantifier() throws IOException {
+        StringRandomizer randomizer = new StringRandomizer().pattern("[a-z]{1,20000}").unique();
+        randomizer.seed(3);
+        String value = randomizer.value();
+        StringWriter writer = new StringWriter();
+        long written = randomizer.writeTo(writer);
+        assertThat(value).matches("[a-z]+");
+        assertThat(writer.toString()).matches("[a-z]+").isNotEqualTo(value);
+        assertThat(written).isEqualTo(writer.toString().length());
+    }
+
+    @Test
+    public void generate_unique_strings_from_a_space_too_large_for_a_long() {
+        List<String> values = new StringRandomizer().length(20).minChar('a').maxChar('z').unique().values(10000);
+        assertThat(new HashSet<>(values)).hasSize(10000);
+        for (String value : values)
+            assertThat(value).matches("[a-z]{20}");
+    }
+
+    @Test
+    public void count_its_strings_and_get_each_of_them_by_index() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("[a-z]{2}[0-9]{4}");
+        assertThat(randomizer.cardinality()).isEqualTo(BigInteger.valueOf(6_760_000));
+        assertThat(randomizer.stringAt(10_001)).isEqualTo("ab0001");
+        assertThat(randomizer.indexOf("zz9999")).isEqualTo(BigInteger.valueOf(6_759_999));
+    }
+
+    @Test
+    public void get_the_index_of_every_string_of_a_pattern_with_groups() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("(ab|c){1,3}-[xyz]?\\d");
+        int count = randomizer.cardinality().intValueExact();
+        for (int index = 0; index < count; index++)
+            assertThat(randomizer.indexOf(randomizer.stringAt(index))).isEqualTo(BigInteger.valueOf(index));
+    }
+
+    @Test
+    public void get_strings_by_index_from_a_space_too_large_for_a_long() {
+        StringRandomizer randomizer = new StringRandomizer().length(20).minChar('a').maxChar('z');
+        BigInteger last = randomizer.cardinality().subtract(BigInteger.ONE);
+        assertThat(randomizer.stringAt(last)).isEqualTo("zzzzzzzzzzzzzzzzzzzz");
+        assertThat(randomizer.indexOf("aaaaaaaaaaaaaaaaaaab")).isEqualTo(BigInteger.ONE);
+        assertThat(randomizer.indexOf("zzzzzzzzzzzzzzzzzzzz")).isEqualTo(last);
+    }
+
+    @Test
+    public void not_find_the_index_of_a_string_that_does_not_follow_the_pattern() {
+        StringRandomizer randomizer = new StringRandomizer().pattern("[a-z]{2,3}[0-9]{1}");
+        assertThat(randomizer.indexOf("abcd1")).isEqualTo(BigInteger.ONE.negate());
+        assertThat(randomizer.indexOf("ab")).isEqualTo(BigInteger.ONE.negate());
+    }
+
+    @Test
+    public void reject_an_index_out_of_range() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        thrown.expectMessage("Index 90 is out of range for a pattern with 90 possible values");
+        new StringRandomizer().pattern("[A-C]{2}[0-9]{1}").stringAt(90);
+    }
+
+    @Test
+    public void draw_characters_in_proportion_to_their_weights_in_a_pattern() {
+        String value = new StringRandomizer().pattern("[a-c{1}b{8}]{100000}").value();
+        int[] counts = new int[3];
+        for (char c : value.toCharArray())
+            counts[c - 'a']++;
+        assertThat(counts[0] / 10000.0).isEqualTo(1.0, delta(0.1));
+        assertThat(counts[1] / 10000.0).isEqualTo(8.0, delta(0.2));
+        assertThat(counts[2] / 10000.0).isEqualTo(1.0, delta(0.1));
+    }
+
+    @Test
+    public void leave_out_characters_whose_weight_is_zero() {
+        String value = new StringRandomizer().pattern("[a-e\\d{0.5}c{0}]{1000}").value();
+        assertThat(value).matches("[abde0-9]{1000}");
+        assertThat(new StringRandomizer().pattern("[a-e\\d{0.5}c{0}]{1}").cardinality())
+                .isEqualTo(BigInteger.valueOf(14));
+    }
+
+    @Test
+    public void treat_braces_without_a_number_in_a_character_class_as_characters() {
+        assertThat(new StringRandomizer().pattern("[a{}x]{20}").value()).matches("[a{}x]{20}");
+        assertThat(new StringRandomizer().pattern("[a{b}]{20}").value()).matches("[a{b}]{20}");
+    }
+
+    @Test
+    public void reject_a_weight_that_is_not_a_number() {
+        checkPatternParsing("[a{1.2.3}]{1}", "Not-a-number in character weight: 1.2.3");
+    }
+
+    @Test
+    public void read_a_number_in_braces_after_a_character_in_a_class_as_its_weight_unless_the_brace_is_escaped() {
+        String weighted = new StringRandomizer().pattern("[a{2}]{100}").value();
+        assertThat(weighted).matches("a{100}");
+        Set<Character> literal = new HashSet<>();
+        for (char c : new StringRandomizer().pattern("[a\\{2}]{1000}").value().toCharArray())
+            literal.add(c);
+        assertThat(literal).containsOnly('a', '{', '2', '}');
+    }
+
+    @Test
+    public void reject_a_weight_in_a_negated_character_class() {
+        checkPatternParsing("[^a{2}]{1}", "Character weights are not allowed in a negated character class");
+    }
+
+    @Test
+    public void draw_characters_in_proportion_to_the_weights_of_an_alphabet() {
+        Alphabet vowels = new Alphabet.Builder().add('a', 1).add('e', 3).build();
+        char[] characters = new StringRandomizer().characters(vowels).fill(new char[40000]);
+        int es = 0;
+        for (char c : characters) {
+            assertThat(c == 'a' || c == 'e').isTrue();
+            if (c == 'e')
+                es++;
+        }
+        assertThat(es / 40000.0).isEqualTo(0.75, delta(0.01));
+        assertThat(new StringRandomizer().length(5).characters(vowels).value()).matches("[ae]{5}");
+    }
+
+    @Test
+    public void reject_characters_together_with_min_char() {
+        checkValidation(() -> new StringRandomizer().length(5).characters(Alphabet.of('a')).minChar('a').value(),
+                "Characters may not be specified simultaneously with minChar or maxChar");
+    }
+}
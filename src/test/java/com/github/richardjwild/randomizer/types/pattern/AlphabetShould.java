@@ -0,0 +1,110 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import org.junit.Test;
+
+import static com.github.richardjwild.randomizer.engine.RandomEngines.XOROSHIRO;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Delta.delta;
+
+public class AlphabetShould {
+
+    @Test
+    public void include_both_ends_of_a_range() {
+        Alphabet alphabet = Alphabet.range('a', 'c');
+        assertThat(alphabet.size()).isEqualTo(3);
+        assertThat(alphabet.charAt(0)).isEqualTo('a');
+        assertThat(alphabet.charAt(2)).isEqualTo('c');
+    }
+
+    @Test
+    public void cover_the_whole_character_range_without_overflow() {
+        Alphabet alphabet = Alphabet.range(Character.MIN_VALUE, Character.MAX_VALUE);
+        assertThat(alphabet.size()).isEqualTo(65536);
+        assertThat(alphabet.charAt(65535)).isEqualTo(Character.MAX_VALUE);
+    }
+
+    @Test
+    public void merge_overlapping_and_adjacent_ranges() {
+        Alphabet alphabet = new Alphabet.Builder()
+                .addRange('a', 'f')
+                .addRange('d', 'k')
+                .addRange('l', 'm')
+                .build();
+        assertThat(alphabet.rangeCount()).isEqualTo(1);
+        assertThat(alphabet.size()).isEqualTo(13);
+    }
+
+    @Test
+    public void index_characters_across_disjoint_ranges_in_ascending_order() {
+        Alphabet alphabet = new Alphabet.Builder()
+                .addRange('x', 'z')
+                .addRange('0', '1')
+                .add('a')
+                .build();
+        StringBuilder all = new StringBuilder();
+        for (int i = 0; i < alphabet.size(); i++)
+            all.append(alphabet.charAt(i));
+        assertThat(all.toString()).isEqualTo("01axyz");
+    }
+
+    @Test
+    public void index_characters_across_large_disjoint_ranges() {
+        Alphabet alphabet = new Alphabet.Builder()
+                .addRange('\u0100', '\u7fff')
+                .addRange('\u9000', '\uffff')
+                .build();
+        assertThat(alphabet.charAt(0)).isEqualTo('\u0100');
+        assertThat(alphabet.charAt(0x7f00)).isEqualTo('\u9000');
+        assertThat(alphabet.charAt(alphabet.size() - 1)).isEqualTo('\uffff');
+    }
+
+    @Test
+    public void include_repeated_characters_only_once() {
+        Alphabet alphabet = Alphabet.of('b', 'a', 'b');
+        assertThat(alphabet.size()).isEqualTo(2);
+        assertThat(alphabet.contains('a')).isTrue();
+        assertThat(alphabet.contains('c')).isFalse();
+    }
+
+    @Test
+    public void give_each_character_the_weight_of_the_last_range_it_was_added_with() {
+        Alphabet alphabet = new Alphabet.Builder()
+                .addRange('a', 'z', 2)
+                .add('e', 12)
+                .addRange('x', 'z', 0)
+                .build();
+        assertThat(alphabet.isWeighted()).isTrue();
+        assertThat(alphabet.size()).isEqualTo(23);
+        assertThat(alphabet.weightOf('a')).isEqualTo(2.0);
+        assertThat(alphabet.weightOf('e')).isEqualTo(12.0);
+        assertThat(alphabet.weightOf('x')).isEqualTo(0.0);
+    }
+
+    @Test
+    public void draw_characters_in_proportion_to_their_weights() {
+        Alphabet alphabet = new Alphabet.Builder().addRange('a', 'd', 1).add('b', 6).build();
+        RandomEngine random = XOROSHIRO.create(3);
+        int[] counts = new int[4];
+        for (int i = 0; i < 90000; i++)
+            counts[alphabet.next(random) - 'a']++;
+        assertThat(counts[0] / 10000.0).isEqualTo(1.0, delta(0.1));
+        assertThat(counts[1] / 10000.0).isEqualTo(6.0, delta(0.2));
+        assertThat(counts[3] / 10000.0).isEqualTo(1.0, delta(0.1));
+    }
+
+    @Test
+    public void not_be_weighted_when_every_character_has_the_same_weight() {
+        Alphabet alphabet = new Alphabet.Builder().addRange('a', 'c', 5).add('x', 5).build();
+        assertThat(alphabet.isWeighted()).isFalse();
+        assertThat(alphabet.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void keep_the_weights_of_an_alphabet_added_to_another() {
+        Alphabet vowels = new Alphabet.Builder().add('a', 3).add('e', 4).build();
+        Alphabet alphabet = new Alphabet.Builder().addAll(vowels).add('z').build();
+        assertThat(alphabet.weightOf('e')).isEqualTo(4.0);
+        assertThat(alphabet.weightOf('z')).isEqualTo(1.0);
+    }
+}
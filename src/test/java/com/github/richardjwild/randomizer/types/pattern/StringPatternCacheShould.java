@@ -0,0 +1,72 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class StringPatternCacheShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void parse_each_distinct_pattern_once() {
+        StringPatternCache cache = new StringPatternCache(10);
+        List<StringPatternElement> first = cache.patternElements("[a-z]{3}");
+        List<StringPatternElement> second = cache.patternElements("[a-z]{3}");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    public void evict_least_recently_used_pattern_when_full() {
+        StringPatternCache cache = new StringPatternCache(2);
+        cache.patternElements("a");
+        cache.patternElements("b");
+        cache.patternElements("a");
+        cache.patternElements("c");
+        assertThat(cache.size()).isEqualTo(2);
+        cache.patternElements("a");
+        assertThat(cache.hits()).isEqualTo(2);
+        cache.patternElements("b");
+        assertThat(cache.misses()).isEqualTo(4);
+    }
+
+    @Test
+    public void not_cache_patterns_that_cannot_be_parsed() {
+        StringPatternCache cache = new StringPatternCache(2);
+        try {
+            cache.patternElements("[a");
+        } catch (StringPatternParserException e) {
+            assertThat(cache.size()).isEqualTo(0);
+            return;
+        }
+        throw new AssertionError("Expected StringPatternParserException");
+    }
+
+    @Test
+    public void return_unmodifiable_pattern_elements() {
+        StringPatternCache cache = new StringPatternCache(2);
+        thrown.expect(UnsupportedOperationException.class);
+        cache.patternElements("a").clear();
+    }
+
+    @Test
+    public void reject_zero_capacity() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Pattern cache capacity must be greater than zero");
+        new StringPatternCache(0);
+    }
+}
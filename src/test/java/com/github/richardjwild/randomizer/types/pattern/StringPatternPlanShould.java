@@ -0,0 +1,170 @@
+package com.github.richardjwild.randomizer.types.pattern;
+
+import com.github.richardjwild.randomizer.engine.RandomEngine;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.math.BigInteger;
+import java.util.Locale;
+
+import static com.github.richardjwild.randomizer.engine.RandomEngines.XOROSHIRO;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class StringPatternPlanShould {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        Locale.setDefault(Locale.ENGLISH);
+    }
+
+    @Test
+    public void fuse_adjacent_literal_characters_into_one_element() {
+        assertThat(new StringPatternParser("abc[a-z]{2}de").parseAndCreatePatternElements()).hasSize(3);
+    }
+
+    @Test
+    public void fuse_literals_and_single_character_elements_into_one_segment() {
+        StringPatternPlan plan = plan("ab[x]{2}c[a-z]{3}de");
+        assertThat(plan.segmentCount()).isEqualTo(3);
+        assertThat(plan.generate(XOROSHIRO.create(1))).startsWith("abxxc").endsWith("de");
+    }
+
+    @Test
+    public void fuse_groups_that_can_only_produce_one_string() {
+        StringPatternPlan plan = plan("a(bc){3}(d)[a-z]{2}");
+        assertThat(plan.segmentCount()).isEqualTo(2);
+        assertThat(plan.generate(XOROSHIRO.create(1))).startsWith("abcbcbcd");
+    }
+
+    @Test
+    public void know_minimum_and_maximum_length_of_pattern_with_groups() {
+        StringPatternPlan plan = plan("(ab|cde){1,3}x?");
+        assertThat(plan.minLength()).isEqualTo(2);
+        assertThat(plan.maxLength()).isEqualTo(10);
+    }
+
+    @Test
+    public void know_exact_length_of_fixed_length_pattern() {
+        StringPatternPlan plan = plan("[A-Z]{3}-[0-9]{4}");
+        assertThat(plan.minLength()).isEqualTo(8);
+        assertThat(plan.maxLength()).isEqualTo(8);
+    }
+
+    @Test
+    public void know_minimum_and_maximum_length_of_variable_length_pattern() {
+        StringPatternPlan plan = plan("[a-z]{5,10}@[a-z]{5,10}.com");
+        assertThat(plan.minLength()).isEqualTo(15);
+        assertThat(plan.maxLength()).isEqualTo(25);
+    }
+
+    @Test
+    public void generate_strings_that_follow_the_pattern() {
+        StringPatternPlan plan = plan("[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}.com");
+        RandomEngine random = XOROSHIRO.create(42);
+        for (int i = 0; i < 1000; i++)
+            assertThat(plan.generate(random).matches("[a-zA-Z]{5,10}[0-9]{2}@[a-z]{5,10}\\.com")).isTrue();
+    }
+
+    @Test
+    public void write_the_same_characters_as_it_generates() {
+        StringPatternPlan plan = plan("ID-[A-Z]{2,4}/[0-9]{3}");
+        String expected = plan.generate(XOROSHIRO.create(7));
+        char[] destination = new char[20];
+        int length = plan.write(XOROSHIRO.create(7), destination, 2);
+        assertThat(new String(destination, 2, length)).isEqualTo(expected);
+    }
+
+    @Test
+    public void write_the_same_characters_in_chunks_as_it_generates() throws Exception {
+        StringPatternPlan plan = plan("(\\w{3}|[^a-z]{2,5})+(-|\\.)\\d*");
+        for (long seed = 0; seed < 100; seed++) {
+            String expected = plan.generate(XOROSHIRO.create(seed));
+            StringBuilder chunks = new StringBuilder();
+            StringPatternPlan.ChunkSink sink = (chunk, length) -> chunks.append(chunk, 0, length);
+            long written = plan.write(XOROSHIRO.create(seed), new char[3], sink);
+            assertThat(chunks.toString()).isEqualTo(expected);
+            assertThat(written).isEqualTo(expected.length());
+        }
+    }
+
+    @Test
+    public void count_the_strings_it_can_generate_and_get_each_by_index() {
+        StringPatternPlan plan = plan("[a-z]{2}[0-9]{4}");
+        assertThat(plan.cardinality()).isEqualTo(BigInteger.valueOf(6_760_000));
+        assertThat(plan.stringAt(0)).isEqualTo("aa0000");
+        assertThat(plan.stringAt(10_001)).isEqualTo("ab0001");
+        assertThat(plan.stringAt(6_759_999)).isEqualTo("zz9999");
+    }
+
+    @Test
+    public void find_the_lowest_index_of_a_string_that_different_choices_produce() {
+        StringPatternPlan plan = plan("a?a?");
+        assertThat(plan.cardinality()).isEqualTo(BigInteger.valueOf(4));
+        assertThat(plan.indexOf("a")).isEqualTo(BigInteger.ONE);
+        assertThat(plan.stringAt(2)).isEqualTo("a");
+    }
+
+    @Test
+    public void find_the_index_of_a_string_whose_runs_could_be_split_in_several_ways() {
+        StringPatternPlan plan = plan("[a-c]{1,3}[b-d]{1,3}x");
+        int count = plan.cardinality().intValueExact();
+        for (int index = 0; index < count; index++) {
+            String string = plan.stringAt(index);
+            assertThat(plan.stringAt(plan.indexOf(string))).isEqualTo(string);
+        }
+    }
+
+    @Test
+    public void generate_strings_longer_than_the_presized_buffer() {
+        StringPatternPlan plan = plan("x[a-z]{70000,100000}y");
+        String value = plan.generate(XOROSHIRO.create(3));
+        assertThat(value.length()).isGreaterThanOrEqualTo(70002).isLessThanOrEqualTo(100002);
+        assertThat(value).startsWith("x").endsWith("y");
+    }
+
+    @Test
+    public void draw_lengths_from_a_quantifier_that_allows_every_int_length() {
+        StringPatternPlan plan = plan("[a-z]{0,2147483647}");
+        assertThat(plan.maxLength()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(plan.generate(() -> 0L)).isEmpty();
+    }
+
+    @Test
+    public void count_the_strings_of_a_quantifier_with_many_lengths_without_tabulating_them() {
+        assertThat(plan("a{1,2147483647}").cardinality()).isEqualTo(BigInteger.valueOf(Integer.MAX_VALUE));
+        assertThat(plan("a{1,2147483647}").stringAt(4)).isEqualTo("aaaaa");
+        StringPatternPlan plan = plan("[ab]{0,5000}");
+        BigInteger last = BigInteger.valueOf(2).pow(5001).subtract(BigInteger.valueOf(2));
+        assertThat(plan.cardinality()).isEqualTo(last.add(BigInteger.ONE));
+        assertThat(plan.stringAt(last)).hasSize(5000).matches("b*");
+        assertThat(plan.stringAt(7)).isEqualTo("aaa");
+        assertThat(plan.indexOf(plan.stringAt(last.shiftRight(1)))).isEqualTo(last.shiftRight(1));
+    }
+
+    @Test
+    public void reject_a_pattern_with_too_many_strings_to_count() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The pattern can generate more than 2^1048576 strings, which is too many to count");
+        plan("[a-z]{1,2147483647}").cardinality();
+    }
+
+    @Test
+    public void write_the_string_with_an_index_in_chunks() throws Exception {
+        StringPatternPlan plan = plan("x[a-c]{3}(-|\\.)\\d{2,4}");
+        for (long index = 0; index < plan.cardinality().longValue(); index += 97) {
+            StringBuilder chunks = new StringBuilder();
+            long written = plan.write(index, new char[3], (chunk, length) -> chunks.append(chunk, 0, length));
+            assertThat(chunks.toString()).isEqualTo(plan.stringAt(index));
+            assertThat(written).isEqualTo(chunks.length());
+        }
+    }
+
+    private static StringPatternPlan plan(String pattern) {
+        return StringPatternPlan.compile(new StringPatternParser(pattern).parseAndCreatePatternElements());
+    }
+}